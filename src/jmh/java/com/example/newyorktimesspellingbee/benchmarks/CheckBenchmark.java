@@ -0,0 +1,98 @@
+package com.example.newyorktimesspellingbee.benchmarks;
+
+import com.example.newyorktimesspellingbee.core.data.FilteredData;
+import com.example.newyorktimesspellingbee.core.data.GameData;
+import com.example.newyorktimesspellingbee.core.data.LetterMask;
+import com.example.newyorktimesspellingbee.core.data.WordFilter;
+import com.example.newyorktimesspellingbee.core.managers.GameManager;
+import com.example.newyorktimesspellingbee.core.results.CheckResult;
+import com.example.newyorktimesspellingbee.core.results.Verdict;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures checking a word of a bundled game for every verdict, once with check(), which throws an exception
+ * for every rejected word, and once with validate(), which returns the verdict.
+ * Accepted words are taken in turn from the game's words, and the game is restarted when all are found.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CheckBenchmark {
+    private final String LETTERS = "tgnaeir";
+
+    @Param({"ACCEPTED", "ILLEGAL_WORD_LENGTH", "WORD_DOES_NOT_CONTAIN_CENTER_LETTER",
+            "WORD_CONTAINS_ILLEGAL_LETTER", "DICTIONARY_DOES_NOT_CONTAIN_WORD", "WORD_ALREADY_FOUND"})
+    public Verdict verdict;
+
+    private GameData data;
+    private GameManager manager;
+    private List<String> gameWords;
+    private int next;       // Position of the next accepted word.
+    private String word;    // Word checked for rejected verdicts.
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        FilteredData filteredData = new WordFilter().filter(DictionaryState.readBundled(), LETTERS);
+        data = new GameData(filteredData.getArena(), filteredData.getWordIds(), filteredData.getPangramIds(), LETTERS);
+        gameWords = new ArrayList<>(data.getWords());
+        manager = new GameManager(data);
+
+        char center = data.getCenterLetter();
+        char other = LETTERS.charAt(0);
+        char illegal = 'a';
+        while ((LetterMask.bit(illegal) & data.getLettersMask()) != 0) illegal++;
+
+        switch (verdict) {
+            case ILLEGAL_WORD_LENGTH: word = "" + center + other; break;
+            case WORD_DOES_NOT_CONTAIN_CENTER_LETTER: word = "" + other + other + other + other; break;
+            case WORD_CONTAINS_ILLEGAL_LETTER: word = "" + center + other + other + illegal; break;
+            case DICTIONARY_DOES_NOT_CONTAIN_WORD: word = "" + center + center + center + center; break;
+            case WORD_ALREADY_FOUND: word = gameWords.get(0); manager.validate(word); break;
+            default: word = null;
+        }
+
+        if (word != null && manager.validate(word).getVerdict() != verdict) {
+            throw new IllegalStateException(word + " does not produce " + verdict);
+        }
+    }
+
+    /**
+     * Returns the word to check, restarting the game once every word was accepted.
+     *
+     * @return The word to check.
+     */
+    private String nextWord() {
+        if (word != null) return word;
+        if (next == gameWords.size()) {
+            manager = new GameManager(data);
+            next = 0;
+        }
+        return gameWords.get(next++);
+    }
+
+    @Benchmark
+    public Object check() {
+        try {
+            return manager.check(nextWord());
+        } catch (Exception e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public CheckResult validate() {
+        return manager.validate(nextWord());
+    }
+}
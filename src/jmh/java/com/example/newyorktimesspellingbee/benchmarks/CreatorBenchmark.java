@@ -0,0 +1,66 @@
+package com.example.newyorktimesspellingbee.benchmarks;
+
+import com.example.newyorktimesspellingbee.core.data.GameData;
+import com.example.newyorktimesspellingbee.core.data.WordFilter;
+import com.example.newyorktimesspellingbee.core.exceptions.IllegalPointRangeException;
+import com.example.newyorktimesspellingbee.core.exceptions.IllegalWordCountException;
+import com.example.newyorktimesspellingbee.core.exceptions.PangramNotFoundException;
+import com.example.newyorktimesspellingbee.core.managers.GameCreatorManager;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures creating a game the way the game pool does: create() is retried until a game is accepted.
+ * The number of attempts and rejections are reported as extra counters, so the retry rate of every
+ * dictionary shows up next to the time per accepted game.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CreatorBenchmark {
+    private final int MAX_ATTEMPTS = 100_000;
+    private GameCreatorManager creator;
+
+    /**
+     * Counts the create() calls and their rejections per iteration.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Attempts {
+        public long attempts;
+        public long rejections;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            attempts = 0;
+            rejections = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp(DictionaryState state) {
+        creator = new GameCreatorManager(new WordFilter(), state.reader, state.puzzleCatalog);
+    }
+
+    @Benchmark
+    public GameData createUntilAccepted(Attempts counters) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            counters.attempts++;
+            try {
+                return creator.create();
+            } catch (PangramNotFoundException | IllegalWordCountException | IllegalPointRangeException e) {
+                counters.rejections++;
+            }
+        }
+        throw new IllegalStateException("No game accepted in " + MAX_ATTEMPTS + " attempts");
+    }
+}
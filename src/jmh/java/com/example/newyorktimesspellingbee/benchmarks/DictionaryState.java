@@ -0,0 +1,78 @@
+package com.example.newyorktimesspellingbee.benchmarks;
+
+import com.example.newyorktimesspellingbee.core.data.DataReader;
+import com.example.newyorktimesspellingbee.core.data.DictionarySource;
+import com.example.newyorktimesspellingbee.core.data.LetterMask;
+import com.example.newyorktimesspellingbee.core.data.MultiSourceReader;
+import com.example.newyorktimesspellingbee.core.data.PangramCatalog;
+import com.example.newyorktimesspellingbee.core.data.PuzzleCatalog;
+import com.example.newyorktimesspellingbee.core.data.WordIndex;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+/**
+ * DictionaryState holds the dictionary a benchmark runs against: the bundled data.txt with its puzzle catalog,
+ * or a synthetic word list of 25k, 250k or 1M words without one. The words, their index and pangram catalog
+ * are built once per trial, so the benchmarks only measure the operation itself.
+ */
+@State(Scope.Benchmark)
+public class DictionaryState {
+    public static final String BUNDLED_DICTIONARY = "com/example/newyorktimesspellingbee/data.txt";
+
+    @Param({"bundled", "25000", "250000", "1000000"})
+    public String dictionary;
+
+    public List<String> words;
+    public WordIndex index;
+    public DataReader reader;
+    public PuzzleCatalog puzzleCatalog; // Catalog of the bundled dictionary, null for synthetic ones.
+    public String letters;              // Letters of a set that has a pangram in the dictionary.
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (dictionary.equals("bundled")) {
+            words = readBundled().getWords();
+            PuzzleCatalog catalog = PuzzleCatalog.load();
+            puzzleCatalog = catalog != null && catalog.isFor(words) ? catalog : null;
+        } else {
+            words = SyntheticDictionary.generate(Integer.parseInt(dictionary));
+        }
+
+        index = WordIndex.of(words);
+        PangramCatalog pangramCatalog = index.getPangramCatalog();
+        letters = LetterMask.letters(pangramCatalog.getMask(pangramCatalog.size() / 2));
+
+        WordIndex readerIndex = index;
+        List<String> readerWords = words;
+        reader = new DataReader() {
+            @Override
+            public List<String> read() {
+                return readerWords;
+            }
+
+            @Override
+            public WordIndex readIndex() {
+                return readerIndex;
+            }
+        };
+    }
+
+    /**
+     * Reads the bundled data.txt as a classpath resource stream, so it is found inside the benchmark jar as well.
+     *
+     * @return WordIndex of the bundled dictionary.
+     * @throws IllegalStateException If the bundled dictionary could not be read.
+     */
+    public static WordIndex readBundled() {
+        WordIndex index = new MultiSourceReader(DictionarySource.resource(BUNDLED_DICTIONARY)).readIndex();
+        if (index.getWords().isEmpty()) {
+            throw new IllegalStateException("No words read from " + BUNDLED_DICTIONARY);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.newyorktimesspellingbee.benchmarks;
+
+import com.example.newyorktimesspellingbee.core.data.FilteredData;
+import com.example.newyorktimesspellingbee.core.data.WordFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures WordFilter with and without given letters, both scanning the word list and looking up the index.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FilterBenchmark {
+    private final WordFilter filter = new WordFilter();
+
+    @Benchmark
+    public FilteredData listWithLetters(DictionaryState state) {
+        return filter.filter(state.words, state.letters);
+    }
+
+    @Benchmark
+    public FilteredData listWithoutLetters(DictionaryState state) {
+        return filter.filter(state.words);
+    }
+
+    @Benchmark
+    public FilteredData indexWithLetters(DictionaryState state) {
+        return filter.filter(state.index, state.letters);
+    }
+
+    @Benchmark
+    public FilteredData indexWithoutLetters(DictionaryState state) {
+        return filter.filter(state.index);
+    }
+}
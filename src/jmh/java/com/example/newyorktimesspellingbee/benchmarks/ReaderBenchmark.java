@@ -0,0 +1,101 @@
+package com.example.newyorktimesspellingbee.benchmarks;
+
+import com.example.newyorktimesspellingbee.core.data.BinaryDictionaryReader;
+import com.example.newyorktimesspellingbee.core.data.DictionarySource;
+import com.example.newyorktimesspellingbee.core.data.MappedTxtReader;
+import com.example.newyorktimesspellingbee.core.data.MultiSourceReader;
+import com.example.newyorktimesspellingbee.core.data.WordIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures loading a dictionary. Every invocation uses a new reader, since readers cache what they read.
+ * The bundled data.txt and data.bin are read as classpath resources, the synthetic sizes from temporary files.
+ * The startup benchmarks load the bundled dictionary once per iteration, as App.init does on startup:
+ * the first warmup iteration shows the cold load and the measured iterations the warm one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReaderBenchmark {
+
+    /**
+     * A synthetic word file of the given size.
+     */
+    @State(Scope.Benchmark)
+    public static class SyntheticFile {
+        @Param({"25000", "250000", "1000000"})
+        public int size;
+
+        public Path path;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            path = SyntheticDictionary.write(size);
+        }
+    }
+
+    /**
+     * The bundled dictionaries, checked once per trial to hold the same words, so a missing or stale resource
+     * fails the run instead of measuring a different read.
+     */
+    @State(Scope.Benchmark)
+    public static class Bundled {
+        @Setup(Level.Trial)
+        public void setUp() {
+            List<String> words = DictionaryState.readBundled().getWords();
+            if (!words.equals(new BinaryDictionaryReader().read())) {
+                throw new IllegalStateException(BinaryDictionaryReader.FILE_PATH + " does not hold the words of "
+                        + DictionaryState.BUNDLED_DICTIONARY);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<String> resourceReaderRead(Bundled bundled) {
+        return new MultiSourceReader(DictionarySource.resource(DictionaryState.BUNDLED_DICTIONARY)).read();
+    }
+
+    @Benchmark
+    public WordIndex resourceReaderReadIndex(Bundled bundled) {
+        return new MultiSourceReader(DictionarySource.resource(DictionaryState.BUNDLED_DICTIONARY)).readIndex();
+    }
+
+    @Benchmark
+    public WordIndex binaryReaderReadIndex(Bundled bundled) {
+        return new BinaryDictionaryReader().readIndex();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public WordIndex resourceReaderStartup(Bundled bundled) {
+        return new MultiSourceReader(DictionarySource.resource(DictionaryState.BUNDLED_DICTIONARY)).readIndex();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public WordIndex binaryReaderStartup(Bundled bundled) {
+        return new BinaryDictionaryReader().readIndex();
+    }
+
+    @Benchmark
+    public List<String> mappedReaderRead(SyntheticFile file) {
+        return new MappedTxtReader(file.path).read();
+    }
+
+    @Benchmark
+    public WordIndex multiSourceReaderReadIndex(SyntheticFile file) {
+        return new MultiSourceReader(DictionarySource.file(file.path)).readIndex();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.newyorktimesspellingbee.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * SyntheticDictionary generates reproducible word lists of any size for the benchmarks.
+ * Letters are drawn with roughly English frequencies and word lengths between 4 and 12,
+ * so the lists have a realistic share of pangrams and letter masks without shipping large files.
+ */
+public class SyntheticDictionary {
+    private static final String LETTER_POOL =
+            "eeeeeeeeeeeettttttttaaaaaaaaooooooooiiiiiiinnnnnnnsssssshhhhhrrrrrrddddlllluuuccccmmmwwffggyyppbbvkjxqz";
+    private static final long SEED = 42;
+
+    private SyntheticDictionary() {
+    }
+
+    /**
+     * Generates a word list. The same size always yields the same words.
+     *
+     * @param size The number of words.
+     * @return A list of lowercase words.
+     */
+    public static List<String> generate(int size) {
+        Random random = new Random(SEED);
+        List<String> words = new ArrayList<>(size);
+        StringBuilder word = new StringBuilder();
+
+        for (int i = 0; i < size; i++) {
+            word.setLength(0);
+            int length = 4 + random.nextInt(5) + random.nextInt(5);
+            for (int j = 0; j < length; j++) {
+                word.append(LETTER_POOL.charAt(random.nextInt(LETTER_POOL.length())));
+            }
+            words.add(word.toString());
+        }
+
+        return words;
+    }
+
+    /**
+     * Generates a word list and writes it to a temporary file, one word per line.
+     *
+     * @param size The number of words.
+     * @return The path of the file. It is deleted when the JVM exits.
+     * @throws IOException If the file cannot be written.
+     */
+    public static Path write(int size) throws IOException {
+        Path file = Files.createTempFile("dictionary-" + size + "-", ".txt");
+        file.toFile().deleteOnExit();
+        Files.write(file, generate(size), StandardCharsets.UTF_8);
+        return file;
+    }
+}
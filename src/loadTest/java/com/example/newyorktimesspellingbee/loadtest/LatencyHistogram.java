@@ -0,0 +1,130 @@
+package com.example.newyorktimesspellingbee.loadtest;
+
+/**
+ * LatencyHistogram counts latencies in buckets that grow with the latency: every power of two is split into
+ * eight buckets, so any latency from nanoseconds to hours is kept with about 12% precision in a fixed array.
+ * Recording a latency only increments a counter, so the histogram allocates nothing while a load test runs.
+ * A histogram is not thread-safe; every thread records into its own and the histograms are merged afterwards.
+ */
+final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;                      // Buckets per power of two.
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long count = 0;
+    private long totalNanos = 0;
+    private long maxNanos = 0;
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos The latency in nanoseconds.
+     */
+    void record(long nanos) {
+        counts[indexOf(Math.max(nanos, 0))]++;
+        count++;
+        totalNanos += nanos;
+        if (nanos > maxNanos) maxNanos = nanos;
+    }
+
+    /**
+     * Adds the latencies of another histogram to this one.
+     *
+     * @param other The histogram to add.
+     */
+    void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) counts[i] += other.counts[i];
+        count += other.count;
+        totalNanos += other.totalNanos;
+        maxNanos = Math.max(maxNanos, other.maxNanos);
+    }
+
+    long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the latency that the given share of the recorded latencies do not exceed.
+     *
+     * @param percentile The percentile, between 0 and 100.
+     * @return The upper bound of the percentile's bucket in nanoseconds, at most the highest latency.
+     */
+    long getPercentile(double percentile) {
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(lowerBound(i + 1) - 1, maxNanos);
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Returns the mean, the latency percentiles and the highest latency as one line of text.
+     *
+     * @return The summary, without a line separator.
+     */
+    String summary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("mean %s", format(count == 0 ? 0 : totalNanos / count)));
+        for (double percentile : PERCENTILES) {
+            summary.append(String.format(", p%s %s", percentile == (long) percentile ? String.valueOf((long) percentile)
+                    : String.valueOf(percentile), format(getPercentile(percentile))));
+        }
+        return summary.append(String.format(", max %s", format(maxNanos))).toString();
+    }
+
+    /**
+     * Returns the latency percentiles and a histogram with one line per power of two as text.
+     *
+     * @return The report, one line with the summary and one line per non-empty power of two.
+     */
+    String report() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("  %s%n", summary()));
+
+        for (int from = 0; from < BUCKET_COUNT; from += SUB_BUCKETS) {
+            long rowCount = 0;
+            for (int i = from; i < from + SUB_BUCKETS; i++) rowCount += counts[i];
+            if (rowCount == 0) continue;
+            double share = 100.0 * rowCount / count;
+            report.append(String.format("  %9s - %-9s %6.2f%% %s%n", format(lowerBound(from)),
+                    format(lowerBound(from + SUB_BUCKETS)), share, "#".repeat((int) Math.round(share / 2))));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Finds the bucket of a latency.
+     *
+     * @param nanos The latency in nanoseconds, not negative.
+     * @return The position of the bucket.
+     */
+    static int indexOf(long nanos) {
+        if (nanos < SUB_BUCKETS) return (int) nanos;
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+        int subBucket = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the lowest latency of a bucket.
+     *
+     * @param index The position of the bucket.
+     * @return The lowest latency in nanoseconds.
+     */
+    static long lowerBound(int index) {
+        if (index < SUB_BUCKETS) return index;
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        return (long) (SUB_BUCKETS + index % SUB_BUCKETS) << (exponent - SUB_BUCKET_BITS);
+    }
+
+    private static String format(long nanos) {
+        if (nanos < 1_000) return nanos + " ns";
+        if (nanos < 1_000_000) return String.format("%.1f us", nanos / 1e3);
+        if (nanos < 1_000_000_000) return String.format("%.1f ms", nanos / 1e6);
+        return String.format("%.1f s", nanos / 1e9);
+    }
+}
@@ -0,0 +1,466 @@
+package com.example.newyorktimesspellingbee.loadtest;
+
+import com.example.newyorktimesspellingbee.core.data.DataReader;
+import com.example.newyorktimesspellingbee.core.data.GameData;
+import com.example.newyorktimesspellingbee.core.data.LetterMask;
+import com.example.newyorktimesspellingbee.core.data.WordFilter;
+import com.example.newyorktimesspellingbee.core.exceptions.IllegalPointRangeException;
+import com.example.newyorktimesspellingbee.core.exceptions.IllegalWordCountException;
+import com.example.newyorktimesspellingbee.core.exceptions.PangramNotFoundException;
+import com.example.newyorktimesspellingbee.core.managers.GameCreatorManager;
+import com.example.newyorktimesspellingbee.core.managers.GameCreatorService;
+import com.example.newyorktimesspellingbee.core.results.Verdict;
+import com.example.newyorktimesspellingbee.server.GameServer;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * LoadGenerator drives the word check path with simulated players and reports the throughput, a latency histogram
+ * and the allocation rate of the checks, to size hardware and to catch regressions of the check path.
+ * Every player guesses like a person does: mostly words of its puzzle and some pangrams, but also words it already
+ * found and invalid guesses that are too short, miss the center letter, use other letters or are not words.
+ * The guesses are prepared before the run, so only the checks are measured. The puzzles are created with a seeded
+ * random generator, so every run of the same dictionary plays the same puzzles with the same guesses.
+ * How long players take to join the target and to finish their game is reported separately from the checks;
+ * against a GameServer these are the session create and state requests.
+ *
+ * The players are spread over a fixed number of threads, and every thread submits one guess of each of its
+ * players in turn. The allocation rate is measured on these threads with com.sun.management.ThreadMXBean,
+ * so against a GameServer it is the allocation of the HTTP client, not of the server.
+ */
+public class LoadGenerator {
+    private static final int PUZZLE_COUNT = 10;    // Puzzles the players are spread over, 1 in tournaments.
+    private static final int SHORT_LENGTH = 3;     // Length of the too short guesses.
+    private static final int MAX_GUESS_LENGTH = 8; // Longest random guess.
+    private static final long SEED = 2024;
+    private static final int MAX_CREATE_ATTEMPTS = 1000; // Rejected random puzzles retried per puzzle, as GamePool does.
+
+    /**
+     * The kinds of guesses and how often players make them, in percent.
+     */
+    private enum Guess {
+        WORD(42), PANGRAM(5), REPEAT(15), NOT_A_WORD(20), MISSING_CENTER(8), ILLEGAL_LETTER(6), TOO_SHORT(4);
+
+        private final int percent;
+
+        Guess(int percent) {
+            this.percent = percent;
+        }
+    }
+
+    private final Random random = new Random(SEED);
+    private final List<GameData> puzzles = new ArrayList<>();
+
+    /**
+     * Constructs a LoadGenerator playing random puzzles of the given dictionary.
+     * Rejected random puzzles are retried up to MAX_CREATE_ATTEMPTS times per puzzle.
+     *
+     * @param dataReader The DataReader of the dictionary.
+     * @param puzzleCount The number of puzzles the players are spread over.
+     * @throws PangramNotFoundException If no pangram words are found in the last attempt.
+     * @throws IllegalWordCountException If the word count of the last attempt is not within the acceptable range.
+     * @throws IllegalPointRangeException If the total points of the last attempt are not within the acceptable range.
+     */
+    public LoadGenerator(DataReader dataReader, int puzzleCount) throws PangramNotFoundException, IllegalWordCountException, IllegalPointRangeException {
+        GameCreatorService creatorService = new GameCreatorManager(new WordFilter(), dataReader, null, new Random(SEED));
+        for (int i = 0; i < puzzleCount; i++) {
+            puzzles.add(createPuzzle(creatorService));
+        }
+    }
+
+    /**
+     * Creates one random puzzle, retrying rejected ones.
+     *
+     * @param creatorService The GameCreatorService of the dictionary.
+     * @return GameData of the puzzle.
+     * @throws PangramNotFoundException If no pangram words are found in the last attempt.
+     * @throws IllegalWordCountException If the word count of the last attempt is not within the acceptable range.
+     * @throws IllegalPointRangeException If the total points of the last attempt are not within the acceptable range.
+     */
+    private static GameData createPuzzle(GameCreatorService creatorService) throws PangramNotFoundException, IllegalWordCountException, IllegalPointRangeException {
+        for (int attempt = 1; attempt < MAX_CREATE_ATTEMPTS; attempt++) {
+            try {
+                return creatorService.create();
+            } catch (PangramNotFoundException | IllegalWordCountException | IllegalPointRangeException e) {
+                // Try other random letters
+            }
+        }
+        return creatorService.create();
+    }
+
+    /**
+     * Plays the given number of players against a target and reports the results.
+     *
+     * @param target The target to play.
+     * @param playerCount The number of players.
+     * @param guessCount The number of guesses of every player.
+     * @param threadCount The number of threads the players are spread over.
+     * @return The Result of the run.
+     * @throws IOException If a player cannot join the target.
+     * @throws InterruptedException If the run is interrupted.
+     */
+    public Result run(LoadTarget target, int playerCount, int guessCount, int threadCount) throws IOException, InterruptedException {
+        List<LoadTarget.Player> players = new ArrayList<>(playerCount);
+        List<String[]> guesses = new ArrayList<>(playerCount);
+        LatencyHistogram joinLatencies = new LatencyHistogram();
+        for (int i = 0; i < playerCount; i++) {
+            GameData data = puzzles.get(i % puzzles.size());
+            long joinStart = System.nanoTime();
+            players.add(target.join("player-" + i, data));
+            joinLatencies.record(System.nanoTime() - joinStart);
+            guesses.add(guesses(data, guessCount));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Worker>> workers = new ArrayList<>();
+        for (int t = 0; t < threadCount; t++) {
+            Worker worker = new Worker(t, threadCount, players, guesses, guessCount);
+            workers.add(executor.submit(() -> {
+                start.await();
+                worker.run();
+                return worker;
+            }));
+        }
+
+        long gcCount = gcCount();
+        long gcMillis = gcMillis();
+        long startNanos = System.nanoTime();
+        start.countDown();
+
+        Result result = new Result(target.getName(), playerCount, threadCount);
+        result.joinLatencies.add(joinLatencies);
+        try {
+            for (Future<Worker> future : workers) result.add(future.get());
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        result.elapsedNanos = System.nanoTime() - startNanos;
+        result.gcCount = gcCount() - gcCount;
+        result.gcMillis = gcMillis() - gcMillis;
+        return result;
+    }
+
+    /**
+     * Prepares the guesses of a player, mixed as given by the Guess percentages.
+     * A kind of guess that is not possible anymore, such as a word when all words were guessed, is replaced by a repeat,
+     * and a repeat without earlier words by a word that is not in the dictionary.
+     *
+     * @param data The puzzle of the player.
+     * @param guessCount The number of guesses.
+     * @return The guesses in the order they are submitted.
+     */
+    private String[] guesses(GameData data, int guessCount) {
+        List<String> words = new ArrayList<>(data.getWords());
+        List<String> pangrams = new ArrayList<>(data.getPangramWords());
+        words.removeAll(pangrams);
+        Collections.shuffle(words, random);
+        Collections.shuffle(pangrams, random);
+
+        String letters = data.getLetters();
+        char center = data.getCenterLetter();
+        String outerLetters = letters.replace(String.valueOf(center), "");
+        List<String> guessed = new ArrayList<>();
+        String[] guesses = new String[guessCount];
+
+        for (int i = 0; i < guessCount; i++) {
+            Guess kind = pickGuess();
+            if (kind == Guess.WORD && words.isEmpty()) kind = Guess.PANGRAM;
+            if (kind == Guess.PANGRAM && pangrams.isEmpty()) kind = Guess.REPEAT;
+            if (kind == Guess.REPEAT && guessed.isEmpty()) kind = Guess.NOT_A_WORD;
+
+            switch (kind) {
+                case WORD:
+                    guesses[i] = words.remove(words.size() - 1);
+                    guessed.add(guesses[i]);
+                    break;
+                case PANGRAM:
+                    guesses[i] = pangrams.remove(pangrams.size() - 1);
+                    guessed.add(guesses[i]);
+                    break;
+                case REPEAT:
+                    guesses[i] = guessed.get(random.nextInt(guessed.size()));
+                    break;
+                case NOT_A_WORD:
+                    String guess;
+                    do {
+                        guess = randomWord(letters, center, SHORT_LENGTH + 1 + random.nextInt(MAX_GUESS_LENGTH - SHORT_LENGTH));
+                    } while (data.getWordId(guess) >= 0);
+                    guesses[i] = guess;
+                    break;
+                case MISSING_CENTER:
+                    guesses[i] = randomWord(outerLetters, (char) 0, SHORT_LENGTH + 1 + random.nextInt(MAX_GUESS_LENGTH - SHORT_LENGTH));
+                    break;
+                case ILLEGAL_LETTER:
+                    guesses[i] = withIllegalLetter(data.getWords().get(random.nextInt(data.getWordCount())), data);
+                    break;
+                default:
+                    guesses[i] = randomWord(letters, center, SHORT_LENGTH);
+                    break;
+            }
+        }
+        return guesses;
+    }
+
+    private Guess pickGuess() {
+        int roll = random.nextInt(100);
+        for (Guess guess : Guess.values()) {
+            roll -= guess.percent;
+            if (roll < 0) return guess;
+        }
+        return Guess.WORD;
+    }
+
+    /**
+     * Builds a random guess of the given letters.
+     *
+     * @param letters The letters to pick from.
+     * @param center A letter the guess must contain, or 0 for none.
+     * @param length The length of the guess.
+     * @return The guess.
+     */
+    private String randomWord(String letters, char center, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) chars[i] = letters.charAt(random.nextInt(letters.length()));
+        if (center != 0) chars[random.nextInt(length)] = center;
+        return new String(chars);
+    }
+
+    /**
+     * Replaces a letter of a word, other than the center letter, with a letter that is not part of the puzzle.
+     *
+     * @param word The word of the puzzle.
+     * @param data The puzzle.
+     * @return The word with an illegal letter.
+     */
+    private String withIllegalLetter(String word, GameData data) {
+        char illegal;
+        do {
+            illegal = (char) ('a' + random.nextInt(26));
+        } while ((LetterMask.of(String.valueOf(illegal)) & data.getLettersMask()) != 0);
+
+        char[] chars = word.toCharArray();
+        int position;
+        do {
+            position = random.nextInt(chars.length);
+        } while (chars[position] == data.getCenterLetter());
+        chars[position] = illegal;
+        return new String(chars);
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) count += Math.max(bean.getCollectionCount(), 0);
+        return count;
+    }
+
+    private static long gcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) millis += Math.max(bean.getCollectionTime(), 0);
+        return millis;
+    }
+
+    /**
+     * Submits the guesses of every threadCount-th player, one guess of each player in turn.
+     */
+    private static class Worker {
+        private final List<LoadTarget.Player> players = new ArrayList<>();
+        private final List<String[]> guesses = new ArrayList<>();
+        private final int guessCount;
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private final LatencyHistogram finishLatencies = new LatencyHistogram();
+        private final long[] verdictCounts = new long[Verdict.values().length];
+        private long allocatedBytes = -1; // -1 if the JVM cannot measure the allocation of a thread.
+        private long errorCount = 0;
+
+        Worker(int first, int step, List<LoadTarget.Player> allPlayers, List<String[]> allGuesses, int guessCount) {
+            for (int i = first; i < allPlayers.size(); i += step) {
+                players.add(allPlayers.get(i));
+                guesses.add(allGuesses.get(i));
+            }
+            this.guessCount = guessCount;
+        }
+
+        void run() {
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            boolean measured = threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled();
+            long allocatedBefore = measured ? threads.getCurrentThreadAllocatedBytes() : 0;
+
+            for (int g = 0; g < guessCount; g++) {
+                for (int p = 0; p < players.size(); p++) {
+                    long start = System.nanoTime();
+                    try {
+                        Verdict verdict = players.get(p).submit(guesses.get(p)[g]);
+                        latencies.record(System.nanoTime() - start);
+                        verdictCounts[verdict.ordinal()]++;
+                    } catch (IOException | RuntimeException e) {
+                        errorCount++;
+                    }
+                }
+            }
+
+            if (measured) allocatedBytes = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+            for (LoadTarget.Player player : players) {
+                long start = System.nanoTime();
+                try {
+                    player.finish();
+                    finishLatencies.record(System.nanoTime() - start);
+                } catch (IOException | RuntimeException e) {
+                    errorCount++;
+                }
+            }
+        }
+    }
+
+    /**
+     * The results of a run, summed over all threads.
+     */
+    public static class Result {
+        private final String targetName;
+        private final int playerCount;
+        private final int threadCount;
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private final LatencyHistogram joinLatencies = new LatencyHistogram();
+        private final LatencyHistogram finishLatencies = new LatencyHistogram();
+        private final long[] verdictCounts = new long[Verdict.values().length];
+        private long allocatedBytes = 0;
+        private boolean allocationMeasured = true;
+        private long errorCount = 0;
+        private long elapsedNanos;
+        private long gcCount;
+        private long gcMillis;
+
+        private Result(String targetName, int playerCount, int threadCount) {
+            this.targetName = targetName;
+            this.playerCount = playerCount;
+            this.threadCount = threadCount;
+        }
+
+        private void add(Worker worker) {
+            latencies.add(worker.latencies);
+            finishLatencies.add(worker.finishLatencies);
+            for (int i = 0; i < verdictCounts.length; i++) verdictCounts[i] += worker.verdictCounts[i];
+            if (worker.allocatedBytes < 0) allocationMeasured = false;
+            allocatedBytes += worker.allocatedBytes;
+            errorCount += worker.errorCount;
+        }
+
+        public long getCheckCount() {
+            return latencies.getCount();
+        }
+
+        public double getChecksPerSecond() {
+            return getCheckCount() / (elapsedNanos / 1e9);
+        }
+
+        /**
+         * Returns the bytes allocated per check by the player threads.
+         *
+         * @return The allocated bytes per check, or -1 if the JVM cannot measure them.
+         */
+        public double getBytesPerCheck() {
+            return allocationMeasured && getCheckCount() > 0 ? (double) allocatedBytes / getCheckCount() : -1;
+        }
+
+        /**
+         * Returns a latency percentile of the checks.
+         *
+         * @param percentile The percentile, between 0 and 100.
+         * @return The latency in nanoseconds.
+         */
+        public long getLatencyPercentile(double percentile) {
+            return latencies.getPercentile(percentile);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder report = new StringBuilder();
+            double seconds = elapsedNanos / 1e9;
+            report.append(String.format("%s: %d players on %d threads, %d checks in %d ms, %.0f checks/s%n", targetName,
+                    playerCount, threadCount, getCheckCount(), elapsedNanos / 1_000_000, getChecksPerSecond()));
+            if (allocationMeasured) {
+                report.append(String.format("  allocated %.1f MB/s, %.0f bytes/check, %d GCs taking %d ms%n",
+                        allocatedBytes / seconds / (1 << 20), getBytesPerCheck(), gcCount, gcMillis));
+            }
+            if (errorCount > 0) report.append(String.format("  %d requests failed%n", errorCount));
+            report.append(String.format("  joins: %s%n", joinLatencies.summary()));
+            report.append(String.format("  finishes: %s%n", finishLatencies.summary()));
+
+            report.append("  verdicts:");
+            for (Verdict verdict : Verdict.values()) {
+                if (verdictCounts[verdict.ordinal()] > 0) {
+                    report.append(String.format(" %s %.1f%%", verdict.name(), 100.0 * verdictCounts[verdict.ordinal()] / getCheckCount()));
+                }
+            }
+            report.append(System.lineSeparator());
+            return report.append(latencies.report()).toString();
+        }
+    }
+
+    /**
+     * Runs the load generator.
+     * The mode is check or validate for the GameService of a single player, tournament for players sharing one
+     * game, or http or http-tournament for GameServer sessions or tournaments. The HTTP modes play a server
+     * started in this process unless the URL of a running server of the same dictionary is given.
+     *
+     * @param args Optional mode, player count, guesses per player, thread count and server URL,
+     *             validate, 1000, 60, 4 and none by default.
+     * @throws Exception If the puzzles cannot be created, the server cannot be started or a player cannot join.
+     */
+    public static void main(String[] args) throws Exception {
+        String mode = args.length > 0 ? args[0] : "validate";
+        int playerCount = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int guessCount = args.length > 2 ? Integer.parseInt(args[2]) : 60;
+        int threadCount = args.length > 3 ? Integer.parseInt(args[3]) : 4;
+        String url = args.length > 4 ? args[4] : null;
+
+        DataReader dataReader = GameServer.bundledDataReader();
+        boolean tournament = mode.endsWith("tournament");
+        LoadGenerator generator = new LoadGenerator(dataReader, tournament ? 1 : PUZZLE_COUNT);
+
+        GameServer server = null;
+        if (mode.startsWith("http") && url == null) {
+            server = new GameServer(dataReader, 0);
+            server.start();
+            url = "http://localhost:" + server.getPort();
+        }
+
+        try {
+            for (int run = 0; run < 2; run++) { // The first run warms up the JIT
+                LoadTarget target;
+                switch (mode) {
+                    case "check": target = LoadTarget.check(); break;
+                    case "validate": target = LoadTarget.validate(); break;
+                    case "tournament": target = LoadTarget.tournament(); break;
+                    case "http": target = LoadTarget.httpSessions(url); break;
+                    case "http-tournament": target = LoadTarget.httpTournaments(url); break;
+                    default: throw new IllegalArgumentException("Unknown mode: " + mode);
+                }
+                try (target) {
+                    Result result = generator.run(target, playerCount, guessCount, threadCount);
+                    if (run > 0) System.out.print(result);
+                }
+            }
+            if (server != null) {
+                System.out.printf("%d open sessions and %d tournaments sharing %d games%n",
+                        server.getSessionCount(), server.getTournamentCount(), server.getGameCount());
+            }
+        } finally {
+            if (server != null) server.close();
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.example.newyorktimesspellingbee.loadtest;
+
+import com.example.newyorktimesspellingbee.core.data.GameData;
+import com.example.newyorktimesspellingbee.core.exceptions.*;
+import com.example.newyorktimesspellingbee.core.managers.GameManager;
+import com.example.newyorktimesspellingbee.core.managers.GameService;
+import com.example.newyorktimesspellingbee.core.managers.TournamentManager;
+import com.example.newyorktimesspellingbee.core.managers.TournamentPlayer;
+import com.example.newyorktimesspellingbee.core.results.Verdict;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * This interface describes what the LoadGenerator plays against: the check path of the game in this process,
+ * or a GameServer over HTTP. Every simulated player joins the target once and then submits its guesses.
+ */
+public interface LoadTarget extends AutoCloseable {
+    Pattern ID = Pattern.compile("\"id\":\"([^\"]+)\"");
+    Pattern VERDICT = Pattern.compile("\"verdict\":\"([A-Z_]+)\"");
+
+    String getName();
+
+    /**
+     * Adds a player of a puzzle. Players of the same puzzle share its GameData.
+     *
+     * @param name The name of the player.
+     * @param data The puzzle of the player.
+     * @return The Player to submit guesses with.
+     * @throws IOException If the player cannot join a remote target.
+     */
+    Player join(String name, GameData data) throws IOException;
+
+    @Override
+    default void close() {
+    }
+
+    /**
+     * A simulated player of a target. A player is only used by one thread at a time.
+     */
+    interface Player {
+        /**
+         * Submits a guess.
+         *
+         * @param word The guessed word.
+         * @return The verdict of the guess.
+         * @throws IOException If a remote target cannot be reached.
+         */
+        Verdict submit(String word) throws IOException;
+
+        /**
+         * Ends the player's game after its last guess. A player of a remote session reads the final state
+         * of its session, other players have nothing left to do.
+         *
+         * @throws IOException If a remote target cannot be reached.
+         */
+        default void finish() throws IOException {
+        }
+    }
+
+    /**
+     * Returns a target checking words with GameService.check(), the way the JavaFX game does:
+     * every player has its own GameManager and rejected words are thrown as exceptions.
+     *
+     * @return A LoadTarget of the exception based check path.
+     */
+    static LoadTarget check() {
+        return new LoadTarget() {
+            @Override
+            public String getName() {
+                return "check";
+            }
+
+            @Override
+            public Player join(String name, GameData data) {
+                GameService game = new GameManager(data);
+                return word -> {
+                    try {
+                        game.check(word);
+                        return Verdict.ACCEPTED;
+                    } catch (IllegalWordLengthException e) {
+                        return Verdict.ILLEGAL_WORD_LENGTH;
+                    } catch (WordDoesNotContainCenterLetterException e) {
+                        return Verdict.WORD_DOES_NOT_CONTAIN_CENTER_LETTER;
+                    } catch (WordContainsIllegalLetterException e) {
+                        return Verdict.WORD_CONTAINS_ILLEGAL_LETTER;
+                    } catch (DictionaryDoesNotContainWordException e) {
+                        return Verdict.DICTIONARY_DOES_NOT_CONTAIN_WORD;
+                    } catch (WordAlreadyFoundException e) {
+                        return Verdict.WORD_ALREADY_FOUND;
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Returns a target checking words with GameService.validate(), the check path of the GameServer sessions:
+     * every player has its own GameManager and rejected words return shared results.
+     *
+     * @return A LoadTarget of the exception free check path.
+     */
+    static LoadTarget validate() {
+        return new LoadTarget() {
+            @Override
+            public String getName() {
+                return "validate";
+            }
+
+            @Override
+            public Player join(String name, GameData data) {
+                GameService game = new GameManager(data);
+                return word -> game.validate(word).getVerdict();
+            }
+        };
+    }
+
+    /**
+     * Returns a target where all players of a puzzle play the same TournamentManager,
+     * so the players' threads check words of one shared game at the same time.
+     *
+     * @return A LoadTarget of tournament play.
+     */
+    static LoadTarget tournament() {
+        Map<GameData, TournamentManager> tournaments = new ConcurrentHashMap<>();
+        return new LoadTarget() {
+            @Override
+            public String getName() {
+                return "tournament";
+            }
+
+            @Override
+            public Player join(String name, GameData data) {
+                TournamentPlayer player = tournaments.computeIfAbsent(data, TournamentManager::new).join(name);
+                return word -> player.submit(word).getVerdict();
+            }
+        };
+    }
+
+    /**
+     * Returns a target playing GameServer sessions over HTTP. Every player creates a session of its puzzle,
+     * submits its guesses and finally reads the state of the session.
+     *
+     * @param baseUrl The URL of the server, such as http://localhost:8080.
+     * @return A LoadTarget of the /games endpoints.
+     */
+    static LoadTarget httpSessions(String baseUrl) {
+        return new LoadTarget() {
+            @Override
+            public String getName() {
+                return "http sessions " + baseUrl;
+            }
+
+            @Override
+            public Player join(String name, GameData data) throws IOException {
+                String created = request(new URL(baseUrl + "/games?letters=" + data.getLetters()), "POST", null, 201);
+                URL sessionUrl = new URL(baseUrl + "/games/" + find(ID, created));
+                URL wordsUrl = new URL(sessionUrl + "/words");
+                return new Player() {
+                    @Override
+                    public Verdict submit(String word) throws IOException {
+                        return Verdict.valueOf(find(VERDICT, request(wordsUrl, "POST", word, 200)));
+                    }
+
+                    @Override
+                    public void finish() throws IOException {
+                        request(sessionUrl, "GET", null, 200);
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Returns a target playing GameServer tournaments over HTTP. The players of a puzzle join the same tournament.
+     *
+     * @param baseUrl The URL of the server, such as http://localhost:8080.
+     * @return A LoadTarget of the /tournaments endpoints.
+     */
+    static LoadTarget httpTournaments(String baseUrl) {
+        Map<GameData, String> tournamentIds = new ConcurrentHashMap<>();
+        return new LoadTarget() {
+            @Override
+            public String getName() {
+                return "http tournaments " + baseUrl;
+            }
+
+            @Override
+            public Player join(String name, GameData data) throws IOException {
+                String id;
+                synchronized (tournamentIds) {
+                    id = tournamentIds.get(data);
+                    if (id == null) {
+                        id = find(ID, request(new URL(baseUrl + "/tournaments?letters=" + data.getLetters()), "POST", null, 201));
+                        tournamentIds.put(data, id);
+                    }
+                }
+                URL wordsUrl = new URL(baseUrl + "/tournaments/" + id + "/players/"
+                        + URLEncoder.encode(name, StandardCharsets.UTF_8) + "/words");
+                return word -> Verdict.valueOf(find(VERDICT, request(wordsUrl, "POST", word, 200)));
+            }
+        };
+    }
+
+    /**
+     * Sends a request. The connection is kept alive for the next request of the thread.
+     *
+     * @param url The URL of the endpoint.
+     * @param method The request method.
+     * @param body The request body, or null to send none.
+     * @param expectedStatus The status code of a successful response.
+     * @return The body of the response.
+     * @throws IOException If the request fails or the response has another status code.
+     */
+    private static String request(URL url, String method, String body, int expectedStatus) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod(method);
+        if (body != null) {
+            connection.setDoOutput(true);
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        int status = connection.getResponseCode();
+        String response;
+        try (InputStream in = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+            response = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        if (status != expectedStatus) throw new IOException("Unexpected status " + status + ": " + response);
+        return response;
+    }
+
+    private static String find(Pattern pattern, String json) throws IOException {
+        Matcher matcher = pattern.matcher(json);
+        if (!matcher.find()) throw new IOException("Unexpected response: " + json);
+        return matcher.group(1);
+    }
+}
@@ -1,30 +1,134 @@
 package com.example.newyorktimesspellingbee;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.scene.image.Image;
 import javafx.stage.Stage;
 
 import com.example.newyorktimesspellingbee.controllers.MenuController;
+import com.example.newyorktimesspellingbee.core.constants.Messages;
+import com.example.newyorktimesspellingbee.core.constants.UINames;
+import com.example.newyorktimesspellingbee.core.data.BinaryDictionaryReader;
 import com.example.newyorktimesspellingbee.core.data.DataFilter;
 import com.example.newyorktimesspellingbee.core.data.DataReader;
-import com.example.newyorktimesspellingbee.core.data.TxtReader;
+import com.example.newyorktimesspellingbee.core.data.PuzzleCatalog;
+import com.example.newyorktimesspellingbee.core.data.MappedTxtReader;
+import com.example.newyorktimesspellingbee.core.data.WatchingDataReader;
 import com.example.newyorktimesspellingbee.core.data.WordFilter;
+import com.example.newyorktimesspellingbee.core.managers.GameCreatorManager;
+import com.example.newyorktimesspellingbee.core.managers.GamePool;
+import com.example.newyorktimesspellingbee.core.managers.SessionStore;
+import com.example.newyorktimesspellingbee.core.results.LoadReport;
 import com.example.newyorktimesspellingbee.models.MenuModel;
 import com.example.newyorktimesspellingbee.views.MenuView;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
 public class App extends Application {
+    private static final int GAME_POOL_SIZE = 4;
+    private static final String DICTIONARY_PROPERTY = "spellingbee.dictionary"; // Path of an external word file.
+    private static final String SESSION_PROPERTY = "spellingbee.sessions";      // Directory of the saved game.
+    private static final long LAUNCH_NANOS = System.nanoTime();
+    private static final System.Logger LOGGER = System.getLogger(App.class.getName());
     private static App instance = null;
     private Stage stage = null;
     private DataReader dataReader;
     private DataFilter dataFilter;
+    private volatile PuzzleCatalog puzzleCatalog;
+    private volatile GamePool gamePool;
+    private SessionStore sessionStore;
+    private CompletableFuture<Void> ready; // Completed when the dictionary is loaded and the game pool is started.
+    private volatile Duration timeToFirstFrame;
+    private volatile Duration timeToReady;
 
+    /**
+     * Starts loading the dictionary on a background thread, so the menu can be shown before it is loaded.
+     * If the spellingbee.dictionary system property names a word file, that file is used instead of the
+     * bundled dictionary and is reloaded whenever it changes.
+     * The saved game is kept in the directory named by the spellingbee.sessions system property,
+     * or in .spellingbee in the user's home directory.
+     *
+     * @throws IOException If the external word file cannot be watched.
+     */
     @Override
-    public void init() {
+    public void init() throws IOException {
         instance = this;
-        dataReader = new TxtReader();
+        String sessions = System.getProperty(SESSION_PROPERTY);
+        sessionStore = new SessionStore(sessions != null ? Path.of(sessions) : Path.of(System.getProperty("user.home"), ".spellingbee"));
+        String dictionary = System.getProperty(DICTIONARY_PROPERTY);
+        if (dictionary != null) {
+            dataReader = new WatchingDataReader(Path.of(dictionary), App::logReload);
+        } else {
+            dataReader = BinaryDictionaryReader.isAvailable() ? new BinaryDictionaryReader() : new MappedTxtReader();
+        }
         dataFilter = new WordFilter();
-        dataReader.read();
+        ready = CompletableFuture.runAsync(this::load, runnable -> {
+            Thread thread = new Thread(runnable, "dictionary-loader");
+            thread.setDaemon(true);
+            thread.start();
+        });
+    }
+
+    /**
+     * Loads the dictionary, its index and pangram catalog and the puzzle catalog, starts filling the game pool
+     * and recovers the saved game.
+     */
+    private void load() {
+        try {
+            sessionStore.recover();
+        } catch (IOException | RuntimeException exception) {
+            // A damaged save must not keep the game from starting
+            LOGGER.log(System.Logger.Level.WARNING, "Saved game could not be recovered", exception);
+        }
+        dataReader.readIndex().getPangramCatalog();
+        puzzleCatalog = loadPuzzleCatalog();
+        GamePool pool = new GamePool(new GameCreatorManager(dataFilter, dataReader, puzzleCatalog), dataReader, GAME_POOL_SIZE);
+        pool.start();
+        gamePool = pool;
+
+        timeToReady = Duration.ofNanos(System.nanoTime() - LAUNCH_NANOS);
+        LOGGER.log(System.Logger.Level.DEBUG, "Time to ready: {0} ms", timeToReady.toMillis());
+    }
+
+    /**
+     * Logs a reload of the external word file, as a warning if the changed file could not be used.
+     *
+     * @param report The LoadReport of the reload.
+     */
+    private static void logReload(LoadReport report) {
+        boolean failed = report.getSources().stream().anyMatch(source -> source.getError() != null);
+        LOGGER.log(failed ? System.Logger.Level.WARNING : System.Logger.Level.INFO, "Dictionary reloaded: {0}", report.toString().strip());
+    }
+
+    /**
+     * Saves the current game and stops the background threads.
+     *
+     * @throws Exception If the dictionary reader cannot be closed.
+     */
+    @Override
+    public void stop() throws Exception {
+        sessionStore.close();
+        GamePool pool = gamePool;
+        if (pool != null) pool.close();
+        if (dataReader instanceof AutoCloseable) ((AutoCloseable) dataReader).close();
+    }
+
+    /**
+     * Loads the bundled puzzle catalog if it was generated from the current dictionary.
+     *
+     * @return The PuzzleCatalog, or null if random games have to be searched for.
+     */
+    private PuzzleCatalog loadPuzzleCatalog() {
+        PuzzleCatalog catalog = PuzzleCatalog.load();
+        if (catalog == null || !catalog.isFor(dataReader.read())) {
+            LOGGER.log(System.Logger.Level.WARNING, "Puzzle catalog missing or out of date, run generatePuzzleCatalog");
+            return null;
+        }
+        return catalog;
     }
 
     @Override
@@ -32,6 +136,7 @@ public class App extends Application {
         this.stage = stage;
 
         MenuModel model = new MenuModel();
+        model.setErrorPropertyValue(ready.isDone() ? "" : UINames.MENU_LOADING);
         MenuController controller = new MenuController(model);
         MenuView view = new MenuView(model, controller);
         Scene scene = new Scene(view.getAsParent());
@@ -42,6 +147,15 @@ public class App extends Application {
         stage.setResizable(false);
         stage.setScene(scene);
         stage.show();
+
+        timeToFirstFrame = Duration.ofNanos(System.nanoTime() - LAUNCH_NANOS);
+        LOGGER.log(System.Logger.Level.DEBUG, "Time to first frame: {0} ms", timeToFirstFrame.toMillis());
+
+        ready.whenComplete((result, error) -> Platform.runLater(() -> {
+            model.setReadyPropertyValue(error == null);
+            model.setResumablePropertyValue(error == null && sessionStore.getSavedSession() != null);
+            model.setErrorPropertyValue(error == null ? "" : Messages.DICTIONARY_NOT_LOADED);
+        }));
     }
 
     public static App getInstance() {
@@ -64,4 +178,48 @@ public class App extends Application {
     public DataFilter getDataFilter() {
         return dataFilter;
     }
+
+    public PuzzleCatalog getPuzzleCatalog() {
+        return puzzleCatalog;
+    }
+
+    public SessionStore getSessionStore() {
+        return sessionStore;
+    }
+
+    /**
+     * Returns the game pool. It is only available once the application is ready.
+     *
+     * @return The GamePool, or null while the dictionary is loading.
+     */
+    public GamePool getGamePool() {
+        return gamePool;
+    }
+
+    /**
+     * Returns the future that completes when the dictionary is loaded and games can be started.
+     *
+     * @return The readiness future, completed exceptionally if loading failed.
+     */
+    public CompletableFuture<Void> getReady() {
+        return ready;
+    }
+
+    /**
+     * Returns the time from launch until the menu was shown.
+     *
+     * @return The time to first frame, or null if the menu was not shown yet.
+     */
+    public Duration getTimeToFirstFrame() {
+        return timeToFirstFrame;
+    }
+
+    /**
+     * Returns the time from launch until the dictionary was loaded and games could be started.
+     *
+     * @return The time to ready, or null if the application is not ready yet.
+     */
+    public Duration getTimeToReady() {
+        return timeToReady;
+    }
 }
\ No newline at end of file
@@ -4,58 +4,96 @@ package com.example.newyorktimesspellingbee.controllers;
 import javafx.scene.Scene;
 
 import com.example.newyorktimesspellingbee.App;
-import com.example.newyorktimesspellingbee.core.exceptions.*;
+import com.example.newyorktimesspellingbee.core.constants.Messages;
 import com.example.newyorktimesspellingbee.core.managers.GameService;
-import com.example.newyorktimesspellingbee.core.results.PointResult;
+import com.example.newyorktimesspellingbee.core.managers.SessionStore;
+import com.example.newyorktimesspellingbee.core.results.CheckResult;
 import com.example.newyorktimesspellingbee.models.MenuModel;
 import com.example.newyorktimesspellingbee.models.GameModel;
 import com.example.newyorktimesspellingbee.views.MenuView;
 
+import java.util.List;
+
 
 /**
  * GameController is responsible for controlling the game flow in the New York Times Spelling Bee application.
- * It manages interactions between the GameModel, GameService, and the game's view components.
+ * It manages interactions between the GameModel, GameService, and the game's view components,
+ * and records the found words in the saved session.
  */
 public class GameController {
     private final GameModel model;
     private final GameService gameService;
+    private final SessionStore.Session session;
 
     /**
-     * Constructs a GameController with a specified game model and game service.
+     * Constructs a GameController with a specified game model, game service and saved session.
      *
      * @param model The GameModel associated with this controller.
      * @param gameService The GameService that provides game logic and rules.
+     * @param session The Session the found words are saved to.
      */
-    public GameController(GameModel model, GameService gameService) {
+    public GameController(GameModel model, GameService gameService, SessionStore.Session session) {
         this.model = model;
         this.gameService = gameService;
+        this.session = session;
         model.setMaximumPointPropertyValue(this.gameService.getMaximumPoint());
     }
 
     /**
      * Checks the current word in the GameModel against the game's rules and updates the model with the result.
-     * This includes updating points, word status, and handling any exceptions related to game rules.
+     * This includes updating points, word status, and showing the rule a rejected word breaks.
+     * Accepted words are queued to the saved session, which is written in the background.
+     * If the session could not be written, the player is told that the game is not being saved.
      */
     public void check() {
-        try {
-            PointResult pointResult = gameService.check(model.getWordPropertyValue());
-            model.setPointPropertyValue(pointResult.getPoint());
-            model.setResultWordPropertyValue(pointResult.getWord());
-            model.setCurrentPointPropertyValue(pointResult.getCurrentPoint());
-            model.setStatusPropertyValue(String.format("\"%s\" Word found!", pointResult.getWord()));
-        } catch (DictionaryDoesNotContainWordException | IllegalWordLengthException |
-                 WordContainsIllegalLetterException | WordDoesNotContainCenterLetterException |
-                 WordAlreadyFoundException e) {
-            model.setStatusPropertyValue(e.getMessage());
+        CheckResult result = gameService.validate(model.getWordPropertyValue());
+        if (!result.isAccepted()) {
+            model.setStatusPropertyValue(result.getMessage());
+            return;
         }
+
+        session.recordFound(result.getWord(), result.getPoint());
+        showFound(result);
+        String status = String.format("\"%s\" Word found!", result.getWord());
+        model.setStatusPropertyValue(session.isFailing() ? status + " " + Messages.SESSION_NOT_SAVED : status);
+    }
+
+    /**
+     * Finds the words of a resumed game again, so the points and the found word list are restored.
+     * The words are already part of the saved session and are not recorded again.
+     *
+     * @param foundWords The words found before the game was resumed.
+     */
+    public void replay(List<String> foundWords) {
+        for (String word : foundWords) {
+            CheckResult result = gameService.validate(word);
+            if (result.isAccepted()) showFound(result);
+        }
+    }
+
+    /**
+     * Updates the model with an accepted word.
+     *
+     * @param result The CheckResult of the accepted word.
+     */
+    private void showFound(CheckResult result) {
+        model.setPointPropertyValue(result.getPoint());
+        model.setResultWordPropertyValue(result.getWord());
+        model.setCurrentPointPropertyValue(result.getCurrentPoint());
     }
 
     /**
      * Transitions from the game view back to the main menu view.
      * It creates a new MenuModel, MenuController, and MenuView, and sets the application's scene to the menu view.
+     * The dictionary was loaded before the game started, so the new menu is ready at once.
+     * The game is saved first, so it can be resumed from the menu. If saving failed before, the menu says so.
      */
     public void returnMenu() {
+        session.save();
         MenuModel model = new MenuModel();
+        model.setReadyPropertyValue(true);
+        model.setResumablePropertyValue(true);
+        model.setErrorPropertyValue(session.isFailing() ? Messages.SESSION_NOT_SAVED : "");
         MenuController controller = new MenuController(model);
         MenuView view = new MenuView(model, controller);
         Scene scene = new Scene(view.getAsParent());
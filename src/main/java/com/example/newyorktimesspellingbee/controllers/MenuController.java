@@ -1,15 +1,24 @@
 package com.example.newyorktimesspellingbee.controllers;
 
+import javafx.application.Platform;
 import javafx.scene.Scene;
+import java.time.Duration;
 import java.util.List;
 
 import com.example.newyorktimesspellingbee.App;
+import com.example.newyorktimesspellingbee.core.constants.Messages;
 import com.example.newyorktimesspellingbee.core.exceptions.*;
+import com.example.newyorktimesspellingbee.core.managers.CancellationToken;
 import com.example.newyorktimesspellingbee.core.managers.GameManager;
 import com.example.newyorktimesspellingbee.core.managers.GameService;
 import com.example.newyorktimesspellingbee.core.managers.GameCreatorManager;
 import com.example.newyorktimesspellingbee.core.managers.GameCreatorService;
+import com.example.newyorktimesspellingbee.core.managers.GamePool;
+import com.example.newyorktimesspellingbee.core.managers.GenerationBudget;
+import com.example.newyorktimesspellingbee.core.managers.SessionStore;
+import com.example.newyorktimesspellingbee.core.data.FilteredData;
 import com.example.newyorktimesspellingbee.core.data.GameData;
+import com.example.newyorktimesspellingbee.core.results.SavedSession;
 
 import com.example.newyorktimesspellingbee.models.MenuModel;
 import com.example.newyorktimesspellingbee.models.GameModel;
@@ -18,10 +27,13 @@ import com.example.newyorktimesspellingbee.views.GameView;
 
 /**
  * MenuController is responsible for managing the menu interactions in the New York Times Spelling Bee application.
- * It handles starting the game either with default letters or with a user-specified set of letters.
+ * It handles starting the game either with default letters or with a user-specified set of letters,
+ * and resuming the saved game.
  */
 public class MenuController {
+    private final GenerationBudget START_BUDGET = new GenerationBudget(1000, Duration.ofSeconds(2));
     private final MenuModel model;
+    private CancellationToken pendingStart; // Token of the random start that is still searching, if any.
 
     /**
      * Constructs a MenuController with a specified menu model.
@@ -49,27 +61,51 @@ public class MenuController {
     }
 
 
+    /**
+     * Resumes the saved game with the words found so far.
+     * The game is filtered again from the letters of the saved session without the game creation checks,
+     * since the saved game may be a best rejected one. If the dictionary changed since, the saved words
+     * no longer belong to the game, so the saved session is discarded and an error is shown instead.
+     */
+    public void resume() {
+        SessionStore sessionStore = App.getInstance().getSessionStore();
+        SavedSession savedSession = sessionStore.getSavedSession();
+        if (savedSession == null) return;
+
+        FilteredData filteredData = App.getInstance().getDataFilter().filter(App.getInstance().getDataReader().readIndex(),
+                savedSession.getLetters());
+        GameData data = new GameData(filteredData.getArena(), filteredData.getWordIds(), filteredData.getPangramIds(),
+                filteredData.getLetters());
+        List<String> foundWords = savedSession.getFoundWords(data);
+        if (foundWords == null) {
+            sessionStore.discard();
+            model.setResumablePropertyValue(false);
+            model.setErrorPropertyValue(Messages.SESSION_NOT_RESUMED);
+            return;
+        }
+        showGame(data, sessionStore.resume(data, savedSession), foundWords);
+    }
+
     /**
      * Handles the process of starting the game with a random set of letters.
-     * It creates a new game using the GameCreatorService, and sets up the game view and controller.
+     * The game is taken from the game pool, or searched for in the background within START_BUDGET if the pool is empty.
+     * A start that is still searching is cancelled when the game is started again.
      */
     private void handleStart() {
-        GameCreatorService creatorService = new GameCreatorManager(App.getInstance().getDataFilter(), App.getInstance().getDataReader());
-        try {
-            GameData data = creatorService.create();
-            debug(data.getWords(), data.getPangramWords(), data.getLetters());
-            model.setErrorPropertyValue("");
-            GameService gameService = new GameManager(data);
-            GameModel gameModel = new GameModel(data.getLetters());
-            GameController gameController = new GameController(gameModel, gameService);
-            GameView gameView = new GameView(gameModel, gameController);
-            Scene scene = new Scene(gameView.getAsParent());
-            scene.getStylesheets().addAll("com/example/newyorktimesspellingbee/style.css");
-            App.getInstance().setScene(scene);
-        } catch (PangramNotFoundException | IllegalPointRangeException | IllegalWordCountException e) {
-            handleStart();
-        }
+        if (pendingStart != null) pendingStart.cancel();
+        CancellationToken token = new CancellationToken();
+        pendingStart = token;
 
+        GamePool gamePool = App.getInstance().getGamePool();
+        gamePool.take(START_BUDGET, token).whenComplete((data, error) -> Platform.runLater(() -> {
+            if (token.isCancelled()) return;
+            if (error != null) {
+                model.setErrorPropertyValue(Messages.GAME_NOT_CREATED);
+                return;
+            }
+            debug(gamePool);
+            showGame(data);
+        }));
     }
 
     /**
@@ -80,21 +116,43 @@ public class MenuController {
         GameCreatorService creatorService = new GameCreatorManager(App.getInstance().getDataFilter(), App.getInstance().getDataReader());
         try {
             GameData data = creatorService.create(model.getLettersPropertyValue().toLowerCase());
-            debug(data.getWords(), data.getPangramWords(), data.getLetters());
-            model.setErrorPropertyValue("");
-            GameService gameService = new GameManager(data);
-            GameModel gameModel = new GameModel(data.getLetters());
-            GameController gameController = new GameController(gameModel, gameService);
-            GameView gameView = new GameView(gameModel, gameController);
-            Scene scene = new Scene(gameView.getAsParent());
-            scene.getStylesheets().addAll("com/example/newyorktimesspellingbee/style.css");
-            App.getInstance().setScene(scene);
+            showGame(data);
         } catch (PangramNotFoundException | IllegalPointRangeException | IllegalWordCountException |
                  NotUniqueLettersException | IllegalLettersLengthException | IllegalLetterException e) {
             model.setErrorPropertyValue(e.getMessage());
         }
     }
 
+    /**
+     * Sets up the game view and controller for the given game data and shows it.
+     * The new game replaces the saved one.
+     *
+     * @param data The game data of the game to show.
+     */
+    private void showGame(GameData data) {
+        showGame(data, App.getInstance().getSessionStore().start(data), List.of());
+    }
+
+    /**
+     * Sets up the game view and controller for the given game data and shows it with the words found before.
+     *
+     * @param data The game data of the game to show.
+     * @param session The Session the found words are saved to.
+     * @param foundWords The words found before, empty for a new game.
+     */
+    private void showGame(GameData data, SessionStore.Session session, List<String> foundWords) {
+        debug(data.getWords(), data.getPangramWords(), data.getLetters());
+        model.setErrorPropertyValue("");
+        GameService gameService = new GameManager(data);
+        GameModel gameModel = new GameModel(data.getLetters());
+        GameController gameController = new GameController(gameModel, gameService, session);
+        GameView gameView = new GameView(gameModel, gameController);
+        gameController.replay(foundWords);
+        Scene scene = new Scene(gameView.getAsParent());
+        scene.getStylesheets().addAll("com/example/newyorktimesspellingbee/style.css");
+        App.getInstance().setScene(scene);
+    }
+
     /**
      * Debugging method to print game data such as words, pangrams, and letters.
      *
@@ -111,4 +169,17 @@ public class MenuController {
         words.forEach(System.out::println);
         System.out.println("=============");
     }
+
+    /**
+     * Debugging method to print the state of the game pool and the acceptance rate of its random candidates.
+     *
+     * @param gamePool The game pool the game was taken from.
+     */
+    private void debug(GamePool gamePool) {
+        System.out.printf("=== Game pool ( %d / %d ready ) ===%n", gamePool.size(), gamePool.getCapacity());
+        System.out.printf("Last refill: %d us, average refill: %d us, misses: %d, stale: %d%n",
+                gamePool.getLastRefillNanos() / 1000, gamePool.getAverageRefillNanos() / 1000, gamePool.getMissCount(),
+                gamePool.getStaleCount());
+        System.out.print(gamePool.getStatistics());
+    }
 }
@@ -12,4 +12,17 @@ public class Messages {
     public static final String WORD_CONTAINS_ILLEGAL_LETTER = "Word contains an illegal letter";
     public static final String ILLEGAL_LETTER = "Letters must be in English characters";
     public static final String WORD_ALREADY_FOUND = "Word already found";
+    public static final String GAME_NOT_CREATED = "No game could be created, please try again";
+    public static final String DICTIONARY_NOT_LOADED = "The words could not be loaded, please restart the game";
+    public static final String GENERATION_CANCELLED = "Game creation was cancelled";
+    public static final String SESSION_NOT_RESUMED = "The saved game could not be resumed";
+    public static final String SESSION_NOT_SAVED = "The game could not be saved";
+    public static final String SESSION_NOT_FOUND = "Game session not found";
+    public static final String TOURNAMENT_NOT_FOUND = "Tournament not found";
+    public static final String PLAYER_NOT_FOUND = "Player not found";
+    public static final String TOO_MANY_SESSIONS = "Too many games are running, please try again later";
+    public static final String TOO_MANY_TOURNAMENTS = "Too many tournaments are running, please try again later";
+    public static final String TOURNAMENT_FULL = "The tournament has no room for more players";
+    public static final String WORD_TOO_LONG = "The submitted word is too long";
+    public static final String METHOD_NOT_ALLOWED = "Method not allowed";
 }
@@ -15,4 +15,8 @@ public class UINames {
     public static final String CREATE_BUTTON = "Create Your Own Game";
 
     public static final String CANCEL_BUTTON = "Go Back";
+
+    public static final String RESUME_BUTTON = "Resume Game";
+
+    public static final String MENU_LOADING = "Loading words...";
 }
@@ -0,0 +1,129 @@
+package com.example.newyorktimesspellingbee.core.data;
+
+import com.example.newyorktimesspellingbee.core.events.DictionaryLoadEvent;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * BinaryDictionaryReader is a DataReader for the binary dictionary that the compileDictionary Gradle task
+ * builds from data.txt. The file already holds the normalized words, their letter masks and lengths,
+ * the order in which the distinct words are grouped by letter mask and the pangram index,
+ * so loading it is a single bulk read into primitive arrays without any text parsing or normalization.
+ * The word bytes become the WordArena of the index as they are, so no String is created while loading.
+ *
+ * Binary format (big endian):
+ * magic, version, word count, byte count, word bytes (UTF-8), word lengths in bytes (short),
+ * letter masks (int), distinct word count, distinct word ids sorted by letter mask (int),
+ * pangram count, pangram word ids (int).
+ */
+public class BinaryDictionaryReader implements DataReader {
+    public static final String FILE_PATH = "com/example/newyorktimesspellingbee/data.bin";
+    private static final int MAGIC = 0x53424458; // "SBDX"
+    private static final int VERSION = 1;
+
+    private List<String> data; // Cached data read from the file.
+    private WordIndex index;   // Cached index of the data.
+
+    /**
+     * Checks if the binary dictionary is available on the classpath.
+     *
+     * @return true if the compileDictionary task has built the binary dictionary.
+     */
+    public static boolean isAvailable() {
+        return BinaryDictionaryReader.class.getClassLoader().getResource(FILE_PATH) != null;
+    }
+
+    /**
+     * Returns the words of the binary dictionary, in the order of data.txt.
+     * The list is a view of the index's arena, its words are turned into Strings when they are read.
+     *
+     * @return List of strings representing the words of the dictionary.
+     */
+    @Override
+    public List<String> read() {
+        if (data == null) load();
+        return data;
+    }
+
+    /**
+     * Returns the words of the binary dictionary grouped by letter mask.
+     * The groups are read from the file, so no letter mask is computed and no word is hashed.
+     *
+     * @return WordIndex of the words of the dictionary.
+     */
+    @Override
+    public WordIndex readIndex() {
+        if (index == null) load();
+        return index;
+    }
+
+    /**
+     * Reads the whole file at once and builds the word list and index from its arrays.
+     * If the file cannot be read both are empty, like TxtReader returns an empty list.
+     * The load is recorded as a DictionaryLoadEvent.
+     */
+    private void load() {
+        DictionaryLoadEvent event = new DictionaryLoadEvent();
+        event.begin();
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(FILE_PATH)) {
+            if (in == null) throw new IOException("Binary dictionary not found");
+            load(ByteBuffer.wrap(in.readAllBytes()));
+        } catch (IOException | RuntimeException exception) {
+            WordArena arena = new WordArena(new byte[0], new int[1], new int[0]);
+            data = arena.asList();
+            index = new WordIndex(data, arena, new int[0]);
+        }
+        event.setReader(getClass().getSimpleName());
+        event.setSource(FILE_PATH);
+        event.setWordCount(data.size());
+        event.commit();
+    }
+
+    /**
+     * Builds the word list and index from the contents of the file.
+     *
+     * @param buffer The contents of the file.
+     * @throws IOException If the contents are not a binary dictionary.
+     */
+    private void load(ByteBuffer buffer) throws IOException {
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            throw new IOException("Not a binary dictionary");
+        }
+
+        int wordCount = buffer.getInt();
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        short[] lengths = new short[wordCount];
+        buffer.asShortBuffer().get(lengths);
+        buffer.position(buffer.position() + wordCount * Short.BYTES);
+        int[] masks = readInts(buffer, wordCount);
+        int[] groupedIds = readInts(buffer, buffer.getInt());
+        // The pangram ids that follow are not needed, the index derives the pangram masks from its sorted masks
+
+        int[] offsets = new int[wordCount + 1];
+        for (int i = 0; i < wordCount; i++) {
+            offsets[i + 1] = offsets[i] + lengths[i];
+        }
+
+        WordArena arena = new WordArena(bytes, offsets, masks);
+        data = arena.asList();
+        index = new WordIndex(data, arena, groupedIds);
+    }
+
+    /**
+     * Reads an array of ints with a single bulk copy.
+     *
+     * @param buffer The buffer to read from.
+     * @param count The number of ints.
+     * @return The ints read.
+     */
+    private int[] readInts(ByteBuffer buffer, int count) {
+        int[] values = new int[count];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + count * Integer.BYTES);
+        return values;
+    }
+}
@@ -8,4 +8,16 @@ public interface DataFilter {
 
     // only takes a list of words as input
     FilteredData filter(List<String> words);
+
+    // takes an index of words and a string of letters as input
+    FilteredData filter(WordIndex index, String letters);
+
+    // only takes an index of words as input
+    FilteredData filter(WordIndex index);
+
+    // takes an index of words, a string of letters and the word count and total points above which filtering stops early
+    FilteredData filter(WordIndex index, String letters, int maxWordCount, int maxTotalPoint);
+
+    // takes an index of words and the word count and total points above which filtering stops early
+    FilteredData filter(WordIndex index, int maxWordCount, int maxTotalPoint);
 }
@@ -9,4 +9,14 @@ import java.util.List;
  */
 public interface DataReader {
     List<String> read();
+
+    /**
+     * Returns the words read by read() grouped by letter mask.
+     * Implementations that cache their data should cache the index too, since it is requested on every game start.
+     *
+     * @return A WordIndex of the words.
+     */
+    default WordIndex readIndex() {
+        return WordIndex.of(read());
+    }
 }
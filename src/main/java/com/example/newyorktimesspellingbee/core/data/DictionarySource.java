@@ -0,0 +1,85 @@
+package com.example.newyorktimesspellingbee.core.data;
+
+import java.io.BufferedInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * This interface describes a source of dictionary words, one word per line, that MultiSourceReader streams from.
+ * Sources whose name ends with .gz are decompressed while they are read.
+ */
+public interface DictionarySource {
+    String getName();
+
+    /**
+     * Opens the source for reading. The caller closes the stream.
+     *
+     * @return A stream of the UTF-8 encoded words, already decompressed.
+     * @throws IOException If the source cannot be opened.
+     */
+    InputStream open() throws IOException;
+
+    /**
+     * Returns a source reading an external file.
+     *
+     * @param path The path of the file.
+     * @return A DictionarySource for the file.
+     */
+    static DictionarySource file(Path path) {
+        return new DictionarySource() {
+            @Override
+            public String getName() {
+                return path.toString();
+            }
+
+            @Override
+            public InputStream open() throws IOException {
+                return decompress(getName(), Files.newInputStream(path));
+            }
+        };
+    }
+
+    /**
+     * Returns a source reading a resource of the application's classpath.
+     *
+     * @param resourcePath The path of the resource, such as com/example/newyorktimesspellingbee/data.txt.
+     * @return A DictionarySource for the resource.
+     */
+    static DictionarySource resource(String resourcePath) {
+        return new DictionarySource() {
+            @Override
+            public String getName() {
+                return resourcePath;
+            }
+
+            @Override
+            public InputStream open() throws IOException {
+                InputStream in = DictionarySource.class.getClassLoader().getResourceAsStream(resourcePath);
+                if (in == null) throw new FileNotFoundException("Resource not found: " + resourcePath);
+                return decompress(getName(), in);
+            }
+        };
+    }
+
+    /**
+     * Wraps the stream of a source in a gzip decompressor if the source name ends with .gz.
+     *
+     * @param name The name of the source.
+     * @param in The raw stream of the source.
+     * @return The stream to read words from.
+     * @throws IOException If the gzip header cannot be read.
+     */
+    private static InputStream decompress(String name, InputStream in) throws IOException {
+        if (!name.endsWith(".gz")) return in;
+        try {
+            return new GZIPInputStream(new BufferedInputStream(in));
+        } catch (IOException exception) {
+            in.close();
+            throw exception;
+        }
+    }
+}
@@ -3,18 +3,24 @@ package com.example.newyorktimesspellingbee.core.data;
 import java.util.List;
 
 public class FilteredData {
-    private final List<String> words;
+    private final WordArena arena;    // Arena the word ids refer to.
+    private final int[] wordIds;      // Ids of the words.
+    private final int[] pangramIds;   // Ids of the pangram words.
     private final String letters;
-    private final List<String> pangramWords;
+    private final int totalPoint;     // Total points of the words.
+    private final boolean truncated;  // Whether filtering stopped early because a limit was exceeded.
 
-    public FilteredData(List<String> words, List<String> pangramWords, String letters) {
-        this.words = words;
-        this.pangramWords = pangramWords;
+    public FilteredData(WordArena arena, int[] wordIds, int[] pangramIds, String letters, int totalPoint, boolean truncated) {
+        this.arena = arena;
+        this.wordIds = wordIds;
+        this.pangramIds = pangramIds;
         this.letters = letters;
+        this.totalPoint = totalPoint;
+        this.truncated = truncated;
     }
 
     public List<String> getWords() {
-        return words;
+        return arena.asList(wordIds);
     }
 
     public String getLetters() {
@@ -22,6 +28,50 @@ public class FilteredData {
     }
 
     public List<String> getPangramWords() {
-        return pangramWords;
+        return arena.asList(pangramIds);
+    }
+
+    public WordArena getArena() {
+        return arena;
+    }
+
+    /**
+     * Returns the ids of the words in the arena. The array is shared and must not be modified.
+     *
+     * @return The word ids.
+     */
+    public int[] getWordIds() {
+        return wordIds;
+    }
+
+    /**
+     * Returns the ids of the pangram words in the arena. The array is shared and must not be modified.
+     *
+     * @return The pangram word ids.
+     */
+    public int[] getPangramIds() {
+        return pangramIds;
+    }
+
+    public int getWordCount() {
+        return wordIds.length;
+    }
+
+    public int getPangramCount() {
+        return pangramIds.length;
+    }
+
+    public int getTotalPoint() {
+        return totalPoint;
+    }
+
+    /**
+     * Checks if filtering stopped early because the word count or total points exceeded a limit.
+     * In that case the words and total points are incomplete, but the pangram words are not.
+     *
+     * @return true if the filtered data is incomplete.
+     */
+    public boolean isTruncated() {
+        return truncated;
     }
 }
@@ -5,29 +5,157 @@ package com.example.newyorktimesspellingbee.core.data;
  * and a string of letters (letters).
  * The class provides getter methods to access these data elements.
  * It is used to hold and provide access to the current game's words, special pangram words, and the set of letters used in the game.
+ * The words are ids into a WordArena, usually the dictionary's, so a game holds no Strings of its own.
+ * Every word gets a game id, its position in the word list, and is hashed on construction so that lookups take constant time.
+ * GameData is never modified after construction and can be shared between games.
  */
 
+import java.util.BitSet;
 import java.util.List;
 public class GameData {
-    private final List<String> words;
-    private final List<String> pangramWords;
+    private final WordArena arena;    // Arena the word ids refer to.
+    private final int[] wordIds;      // Arena id of every word, by game id.
+    private final int[] pangramWords; // Arena ids of the pangram words.
     private final String letters;
+    private final int[] table;        // Open addressing table of game ids plus one, by arena id, 0 marks an empty slot.
+    private final BitSet pangramIds;  // Game ids of the pangram words.
+    private final int lettersMask;    // Letter mask of the game letters.
 
     public GameData(List<String> words, List<String> pangramWords, String letters) {
-        this.words = words;
-        this.pangramWords = pangramWords;
+        this(WordArena.of(words), identity(words.size()), pangramWords, letters);
+    }
+
+    /**
+     * Constructs game data from words of an arena.
+     *
+     * @param arena The arena holding the words.
+     * @param wordIds The arena ids of the words. The array is shared and must not be modified.
+     * @param pangramIds The arena ids of the pangram words. The array is shared and must not be modified.
+     * @param letters The letters of the game.
+     */
+    public GameData(WordArena arena, int[] wordIds, int[] pangramIds, String letters) {
+        this.arena = arena;
+        this.wordIds = wordIds;
+        this.pangramWords = pangramIds;
         this.letters = letters;
+
+        table = new int[Integer.highestOneBit(Math.max(1, wordIds.length) * 2) * 2];
+        for (int id = 0; id < wordIds.length; id++) {
+            int slot = slotOf(wordIds[id]);
+            if (table[slot] == 0) table[slot] = id + 1; // Duplicate words keep the id of their first occurrence
+        }
+
+        this.pangramIds = new BitSet(wordIds.length);
+        for (int pangramId : pangramIds) {
+            int id = getGameId(pangramId);
+            if (id >= 0) this.pangramIds.set(id);
+        }
+
+        lettersMask = LetterMask.of(letters);
+    }
+
+    /**
+     * Constructs game data from a list of words, converting the pangram words to ids of the words' own arena.
+     *
+     * @param arena The arena holding the words, in list order.
+     * @param wordIds The ids of all words of the arena.
+     * @param pangramWords The pangram words.
+     * @param letters The letters of the game.
+     */
+    private GameData(WordArena arena, int[] wordIds, List<String> pangramWords, String letters) {
+        this(arena, wordIds, pangramWords.stream().mapToInt(arena::find).filter(id -> id >= 0).toArray(), letters);
+    }
+
+    /**
+     * Returns the ids 0 to count - 1.
+     *
+     * @param count The number of ids.
+     * @return An array holding every id at its own position.
+     */
+    private static int[] identity(int count) {
+        int[] ids = new int[count];
+        for (int i = 0; i < count; i++) ids[i] = i;
+        return ids;
     }
 
     public List<String> getWords() {
-        return words;
+        return arena.asList(wordIds);
     }
 
     public List<String> getPangramWords() {
-        return pangramWords;
+        return arena.asList(pangramWords);
     }
 
     public String getLetters() {
         return letters;
     }
+
+    /**
+     * Returns the id of a word of the game.
+     *
+     * @param word The word to look up.
+     * @return The id of the word, or -1 if the word is not part of the game.
+     */
+    public int getWordId(String word) {
+        int arenaId = arena.find(word);
+        return arenaId < 0 ? -1 : getGameId(arenaId);
+    }
+
+    /**
+     * Converts the arena id of a word to its game id.
+     *
+     * @param arenaId The id of the word in the arena.
+     * @return The game id of the word, or -1 if the word is not part of the game.
+     */
+    private int getGameId(int arenaId) {
+        int entry = table[slotOf(arenaId)];
+        return entry - 1;
+    }
+
+    /**
+     * Finds the table slot of an arena id: the slot holding it, or the empty slot where it belongs.
+     *
+     * @param arenaId The id of the word in the arena.
+     * @return The position of the slot.
+     */
+    private int slotOf(int arenaId) {
+        int hash = arenaId * 0x9E3779B9;
+        int slot = (hash ^ (hash >>> 16)) & (table.length - 1);
+        while (table[slot] != 0 && wordIds[table[slot] - 1] != arenaId) {
+            slot = (slot + 1) & (table.length - 1);
+        }
+        return slot;
+    }
+
+    /**
+     * Checks if the word with the given id is a pangram.
+     *
+     * @param id The id of the word.
+     * @return true if the word is a pangram.
+     */
+    public boolean isPangram(int id) {
+        return pangramIds.get(id);
+    }
+
+    /**
+     * Returns the length of a word of the game without turning it into a String.
+     *
+     * @param id The id of the word.
+     * @return The length of the word.
+     */
+    public int getWordLength(int id) {
+        return arena.getLength(wordIds[id]);
+    }
+
+    public int getWordCount() {
+        return wordIds.length;
+    }
+
+    public int getLettersMask() {
+        return lettersMask;
+    }
+
+    public char getCenterLetter() {
+        return letters.charAt(letters.length() / 2);
+    }
 }
@@ -0,0 +1,88 @@
+package com.example.newyorktimesspellingbee.core.data;
+
+/**
+ * LetterMask turns words and letter sets into 26-bit integers, one bit per English letter.
+ * Bit 0 stands for 'a' and bit 25 for 'z'. A word containing any other character also gets the
+ * INVALID bit, so it can never be a subset of a set of game letters.
+ * It also holds the point value of a word, which puzzle acceptance and in-game scoring both count with.
+ */
+public final class LetterMask {
+    public static final int INVALID = 1 << 26;
+
+    private LetterMask() {
+    }
+
+    /**
+     * Computes the letter mask of a word.
+     *
+     * @param word The word to compute the mask for.
+     * @return An integer with one bit set for every distinct letter used in the word.
+     */
+    public static int of(CharSequence word) {
+        int mask = 0;
+        for (int i = 0; i < word.length(); i++) {
+            mask |= bit(word.charAt(i));
+        }
+        return mask;
+    }
+
+    /**
+     * Returns the bit of a single character.
+     *
+     * @param ch The character.
+     * @return The bit of the character, or INVALID if it is not an English lowercase letter.
+     */
+    public static int bit(char ch) {
+        if (ch < 'a' || ch > 'z') return INVALID;
+        return 1 << (ch - 'a');
+    }
+
+    /**
+     * Checks if every letter of the word mask is contained in the letters mask.
+     *
+     * @param wordMask The mask of the word.
+     * @param lettersMask The mask of the allowed letters.
+     * @return true if the word uses only allowed letters.
+     */
+    public static boolean isSubset(int wordMask, int lettersMask) {
+        return (wordMask & ~lettersMask) == 0;
+    }
+
+    /**
+     * Counts the distinct letters of a mask.
+     *
+     * @param mask The mask.
+     * @return The number of distinct letters.
+     */
+    public static int size(int mask) {
+        return Integer.bitCount(mask & ~INVALID);
+    }
+
+    /**
+     * Converts a mask back to its letters in alphabetical order.
+     *
+     * @param mask The mask.
+     * @return A string with one character for every letter in the mask.
+     */
+    public static String letters(int mask) {
+        StringBuilder letters = new StringBuilder();
+        for (int i = 0; i < 26; i++) {
+            if ((mask & (1 << i)) != 0) {
+                letters.append((char) ('a' + i));
+            }
+        }
+        return letters.toString();
+    }
+
+    /**
+     * Calculates the point value of a word: one point per letter beyond three, and seven more for a pangram.
+     * The total points of a puzzle and the points of a found word both come from here, so they always agree.
+     *
+     * @param length The length of the word.
+     * @param pangram Whether the word is a pangram.
+     * @return The point value of the word.
+     */
+    public static int pointOf(int length, boolean pangram) {
+        return pangram ? length + 4 : length - 3;
+    }
+}
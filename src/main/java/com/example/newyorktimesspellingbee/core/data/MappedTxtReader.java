@@ -0,0 +1,114 @@
+package com.example.newyorktimesspellingbee.core.data;
+
+import com.example.newyorktimesspellingbee.core.events.DictionaryLoadEvent;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MappedTxtReader is a DataReader that reads the same file as TxtReader and returns the same words,
+ * but maps the file into memory and normalizes it in a single pass over its bytes.
+ * Lowercasing and the accented characters handled by WordNormalizer are translated byte by byte,
+ * so no Scanner, regex or per line decoding is involved. Lines with other non ASCII characters
+ * fall back to WordNormalizer's String based normalization.
+ */
+public class MappedTxtReader implements DataReader {
+    private final String FILE_PATH = "com/example/newyorktimesspellingbee/data.txt";
+    private final File file;   // File object representing the data file.
+    private List<String> data; // Cached data read from the file.
+    private WordIndex index;   // Cached index of the data.
+
+    /**
+     * Constructor for MappedTxtReader.
+     * Initializes the file object based on the specified FILE_PATH.
+     */
+    public MappedTxtReader() {
+        file = new File(getClass().getClassLoader().getResource(FILE_PATH).getFile());
+    }
+
+    /**
+     * Constructor for MappedTxtReader reading an external word file.
+     *
+     * @param path The path of the word file.
+     */
+    public MappedTxtReader(Path path) {
+        file = path.toFile();
+    }
+
+    /**
+     * Reads words from the file and returns them as a list.
+     * Words are filtered to exclude those with less than 4 characters, lowercased and stripped of accents.
+     *
+     * @return List of strings representing the words read from the file.
+     */
+    @Override
+    public List<String> read() {
+        if (data != null) return data; // Return cached data if already read
+
+        DictionaryLoadEvent event = new DictionaryLoadEvent();
+        event.begin();
+        List<String> words = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            readLines(buffer, words);
+        } catch (IOException exception) {
+            // Exception handling matches TxtReader: the words read so far are returned
+        }
+
+        event.setReader(getClass().getSimpleName());
+        event.setSource(file.getPath());
+        event.setWordCount(words.size());
+        event.commit();
+        return data = words; // Cache and return the list of words
+    }
+
+    /**
+     * Returns the words of the file grouped by letter mask.
+     * The index is built on the first call and cached together with the words.
+     *
+     * @return WordIndex of the words read from the file.
+     */
+    @Override
+    public WordIndex readIndex() {
+        if (index != null) return index;
+        return index = WordIndex.of(read());
+    }
+
+    /**
+     * Splits the file into lines and adds the normalized lines longer than 3 characters to the list.
+     *
+     * @param buffer The mapped file, or the file read into memory.
+     * @param words The list the words are added to.
+     */
+    static void readLines(ByteBuffer buffer, List<String> words) {
+        byte[] line = new byte[64];
+        byte[] word = new byte[64];
+        int limit = buffer.limit();
+        int start = 0;
+
+        while (start < limit) {
+            int end = start;
+            while (end < limit && buffer.get(end) != '\n') end++;
+
+            int length = end - start;
+            if (length > 0 && buffer.get(end - 1) == '\r') length--;
+            if (line.length < length) {
+                line = new byte[length * 2];
+                word = new byte[length * 2];
+            }
+            buffer.get(start, line, 0, length);
+
+            String normalized = WordNormalizer.toWord(line, length, word);
+            if (normalized != null) words.add(normalized);
+
+            start = end + 1;
+        }
+    }
+}
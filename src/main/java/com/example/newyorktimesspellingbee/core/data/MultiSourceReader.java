@@ -0,0 +1,133 @@
+package com.example.newyorktimesspellingbee.core.data;
+
+import com.example.newyorktimesspellingbee.core.events.DictionaryLoadEvent;
+import com.example.newyorktimesspellingbee.core.results.LoadReport;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * MultiSourceReader is a DataReader that merges the words of several sources, such as external files,
+ * gzip compressed word lists and classpath resources. Every source is streamed line by line and each word
+ * is normalized by WordNormalizer and added to a WordArena.Builder, which skips words an earlier source
+ * already had. Only the distinct words are kept, in compact form, so the raw text of a source is never held
+ * in memory. A source that fails does not stop the others; its error is recorded in the LoadReport.
+ */
+public class MultiSourceReader implements DataReader {
+    private final List<DictionarySource> sources;
+    private WordIndex index;       // Cached index of the merged words.
+    private LoadReport loadReport; // Report of the last load.
+
+    /**
+     * Constructor for MultiSourceReader.
+     *
+     * @param sources The sources to read, in order.
+     */
+    public MultiSourceReader(List<DictionarySource> sources) {
+        this.sources = new ArrayList<>(sources);
+    }
+
+    /**
+     * Constructor for MultiSourceReader.
+     *
+     * @param sources The sources to read, in order.
+     */
+    public MultiSourceReader(DictionarySource... sources) {
+        this(Arrays.asList(sources));
+    }
+
+    /**
+     * Returns the distinct words of all sources, in the order they were first read.
+     * Words are filtered to exclude those with less than 4 characters, lowercased and stripped of accents.
+     *
+     * @return List of strings representing the words read from the sources.
+     */
+    @Override
+    public List<String> read() {
+        return readIndex().getWords();
+    }
+
+    /**
+     * Returns the distinct words of all sources grouped by letter mask.
+     * The sources are read on the first call and the index is cached.
+     *
+     * @return WordIndex of the words read from the sources.
+     */
+    @Override
+    public synchronized WordIndex readIndex() {
+        if (index == null) load();
+        return index;
+    }
+
+    /**
+     * Returns the report of the sources' load, loading them if they were not read yet.
+     *
+     * @return The LoadReport of the sources.
+     */
+    public synchronized LoadReport getLoadReport() {
+        if (loadReport == null) load();
+        return loadReport;
+    }
+
+    /**
+     * Streams every source into one builder and indexes the result.
+     */
+    private void load() {
+        long start = System.nanoTime();
+        WordArena.Builder builder = new WordArena.Builder();
+        List<LoadReport.Source> sourceReports = new ArrayList<>();
+
+        for (DictionarySource source : sources) {
+            sourceReports.add(load(source, builder));
+        }
+
+        WordArena arena = builder.build();
+        index = WordIndex.of(arena);
+        loadReport = new LoadReport(sourceReports, arena.size(), Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Streams the words of a source into the builder. Words read before an error are kept.
+     * Every source is recorded as a DictionaryLoadEvent.
+     *
+     * @param source The source to read.
+     * @param builder The builder collecting the distinct words.
+     * @return The LoadReport.Source of the source.
+     */
+    private LoadReport.Source load(DictionarySource source, WordArena.Builder builder) {
+        DictionaryLoadEvent event = new DictionaryLoadEvent();
+        event.begin();
+        long start = System.nanoTime();
+        int readCount = 0;
+        int sizeBefore = builder.size();
+        String error = null;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(source.open(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String word = WordNormalizer.toWord(line);
+                if (word != null) {
+                    builder.add(word);
+                    readCount++;
+                }
+            }
+        } catch (IOException | UncheckedIOException exception) {
+            error = exception.getClass().getSimpleName() + ": " + exception.getMessage();
+        }
+
+        event.setReader(getClass().getSimpleName());
+        event.setSource(source.getName());
+        event.setWordCount(readCount);
+        event.commit();
+
+        return new LoadReport.Source(source.getName(), readCount, builder.size() - sizeBefore,
+                Duration.ofNanos(System.nanoTime() - start), error);
+    }
+}
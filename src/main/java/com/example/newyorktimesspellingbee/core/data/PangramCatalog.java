@@ -0,0 +1,208 @@
+package com.example.newyorktimesspellingbee.core.data;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * PangramCatalog lists every distinct set of seven letters that has at least one pangram in the dictionary.
+ * For each set it keeps the pangram words and the number of words and points that can be made from its letters,
+ * regardless of which letter is chosen as the center letter. These totals are upper bounds for any game
+ * built from the set, so sets that can never produce an acceptable game are easy to recognize.
+ * The catalog is computed once from a WordIndex and is never modified afterwards.
+ */
+public class PangramCatalog {
+    private final WordIndex index;   // Index the pangram words are looked up in.
+    private final int[] masks;       // Sorted letter masks of the seven letter sets.
+    private final int[] wordCounts;  // Number of words that can be made from each set.
+    private final int[] totalPoints; // Total points of the words that can be made from each set.
+
+    private PangramCatalog(WordIndex index, int[] masks, int[] wordCounts, int[] totalPoints) {
+        this.index = index;
+        this.masks = masks;
+        this.wordCounts = wordCounts;
+        this.totalPoints = totalPoints;
+    }
+
+    /**
+     * Builds the catalog of an index by collecting all seven letter masks and summing up the words of their subsets.
+     *
+     * @param index The index of the dictionary.
+     * @return A PangramCatalog of the dictionary.
+     */
+    public static PangramCatalog of(WordIndex index) {
+        int[] masks = index.getPangramMasks();
+
+        int[] wordCounts = new int[masks.length];
+        int[] totalPoints = new int[masks.length];
+
+        for (int i = 0; i < masks.length; i++) {
+            count(index, masks[i], i, wordCounts, totalPoints);
+        }
+
+        return new PangramCatalog(index, masks, wordCounts, totalPoints);
+    }
+
+    /**
+     * Builds the catalog of an updated index from this catalog. Only the sets that contain the letters
+     * of a changed word are recounted, the totals of all other sets are copied.
+     *
+     * @param index The updated index of the dictionary.
+     * @param changedMasks The letter masks of the words that were added or removed.
+     * @return A PangramCatalog of the updated dictionary.
+     */
+    PangramCatalog update(WordIndex index, int[] changedMasks) {
+        int[] nextMasks = index.getPangramMasks();
+
+        int[] nextWordCounts = new int[nextMasks.length];
+        int[] nextTotalPoints = new int[nextMasks.length];
+
+        for (int i = 0; i < nextMasks.length; i++) {
+            int mask = nextMasks[i];
+            int previous = indexOf(mask);
+            if (previous >= 0 && !containsAny(mask, changedMasks)) {
+                nextWordCounts[i] = wordCounts[previous];
+                nextTotalPoints[i] = totalPoints[previous];
+            } else {
+                count(index, mask, i, nextWordCounts, nextTotalPoints);
+            }
+        }
+
+        return new PangramCatalog(index, nextMasks, nextWordCounts, nextTotalPoints);
+    }
+
+    /**
+     * Checks if a set contains the letters of any of the given masks.
+     *
+     * @param mask The letter mask of the set.
+     * @param wordMasks The letter masks to check.
+     * @return true if one of the masks is a subset of the set.
+     */
+    private static boolean containsAny(int mask, int[] wordMasks) {
+        for (int wordMask : wordMasks) {
+            if (LetterMask.isSubset(wordMask, mask)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Counts the words and points that can be made from the letters of a set by looking up each of its subsets.
+     *
+     * @param index The index of the dictionary.
+     * @param mask The letter mask of the set.
+     * @param i The position of the set in the catalog.
+     * @param wordCounts The word counts of the catalog.
+     * @param totalPoints The total points of the catalog.
+     */
+    private static void count(WordIndex index, int mask, int i, int[] wordCounts, int[] totalPoints) {
+        WordArena arena = index.getArena();
+
+        int subset = mask;
+        while (subset != 0) {
+            int bucket = index.findBucket(subset);
+            if (bucket >= 0) {
+                for (int j = index.getBucketStart(bucket); j < index.getBucketEnd(bucket); j++) {
+                    wordCounts[i]++;
+                    totalPoints[i] += LetterMask.pointOf(arena.getLength(index.getGroupedId(j)), subset == mask);
+                }
+            }
+            subset = (subset - 1) & mask;
+        }
+    }
+
+    /**
+     * Counts the words and points of a set for each of its letters as center letter, in one sweep over the subsets
+     * of the set: the words of a subset count for every letter of the subset, and the pangrams count for all of them.
+     * This gives the same totals as filtering the words once per center letter.
+     *
+     * @param i The position of the set in the catalog.
+     * @param centerWordCounts Receives the word count of each center letter, in the order of LetterMask.letters().
+     * @param centerTotalPoints Receives the total points of each center letter, in the same order.
+     */
+    public void countByCenter(int i, int[] centerWordCounts, int[] centerTotalPoints) {
+        WordArena arena = index.getArena();
+        int mask = masks[i];
+        Arrays.fill(centerWordCounts, 0, 7, 0);
+        Arrays.fill(centerTotalPoints, 0, 7, 0);
+
+        int subset = mask;
+        while (subset != 0) {
+            int bucket = index.findBucket(subset);
+            if (bucket >= 0) {
+                int wordCount = index.getBucketEnd(bucket) - index.getBucketStart(bucket);
+                int totalPoint = 0;
+                for (int j = index.getBucketStart(bucket); j < index.getBucketEnd(bucket); j++) {
+                    totalPoint += LetterMask.pointOf(arena.getLength(index.getGroupedId(j)), subset == mask);
+                }
+
+                int letters = subset;
+                while (letters != 0) {
+                    int bit = Integer.lowestOneBit(letters);
+                    int center = LetterMask.size(mask & (bit - 1)); // Position of the letter in the set
+                    centerWordCounts[center] += wordCount;
+                    centerTotalPoints[center] += totalPoint;
+                    letters &= ~bit;
+                }
+            }
+            subset = (subset - 1) & mask;
+        }
+    }
+
+    /**
+     * Returns the number of seven letter sets in the catalog.
+     *
+     * @return The size of the catalog.
+     */
+    public int size() {
+        return masks.length;
+    }
+
+    /**
+     * Returns the letter mask of a set.
+     *
+     * @param i The position of the set in the catalog.
+     * @return The letter mask of the set.
+     */
+    public int getMask(int i) {
+        return masks[i];
+    }
+
+    /**
+     * Returns the pangram words of a set.
+     *
+     * @param i The position of the set in the catalog.
+     * @return An unmodifiable list of pangram words.
+     */
+    public List<String> getPangramWords(int i) {
+        return index.getBucket(masks[i]);
+    }
+
+    /**
+     * Returns the number of words that can be made from the letters of a set with any center letter.
+     *
+     * @param i The position of the set in the catalog.
+     * @return The word count of the set.
+     */
+    public int getWordCount(int i) {
+        return wordCounts[i];
+    }
+
+    /**
+     * Returns the total points of the words that can be made from the letters of a set with any center letter.
+     *
+     * @param i The position of the set in the catalog.
+     * @return The total points of the set.
+     */
+    public int getTotalPoint(int i) {
+        return totalPoints[i];
+    }
+
+    /**
+     * Finds the position of a letter mask in the catalog.
+     *
+     * @param mask The letter mask to look up.
+     * @return The position of the mask, or a negative number if the mask has no pangram.
+     */
+    public int indexOf(int mask) {
+        return Arrays.binarySearch(masks, mask);
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.newyorktimesspellingbee.core.data;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * PuzzleCatalog holds every puzzle of a dictionary that passes the game creation rules.
+ * A puzzle is a seven letter set together with its center letter, packed into a single int:
+ * the lower 26 bits are the letter mask and the next 5 bits are the center letter (0 for 'a', 25 for 'z').
+ * The catalog is generated offline and bundled next to data.txt, so a random game is a single random index.
+ *
+ * Binary format (big endian): magic, version, dictionary word count, dictionary checksum, puzzle count, puzzles.
+ */
+public class PuzzleCatalog {
+    public static final String FILE_PATH = "com/example/newyorktimesspellingbee/puzzles.bin";
+    private static final int MAGIC = 0x53425043; // "SBPC"
+    private static final int VERSION = 1;
+    private static final int CENTER_SHIFT = 26;
+
+    private final int wordCount;   // Number of words of the dictionary the catalog was generated from.
+    private final long checksum;   // Checksum of the dictionary the catalog was generated from.
+    private final int[] puzzles;   // Packed letter mask and center letter of each puzzle.
+
+    /**
+     * Constructs a PuzzleCatalog for a dictionary.
+     *
+     * @param words The dictionary the puzzles were generated from.
+     * @param puzzles The packed puzzles.
+     */
+    public PuzzleCatalog(List<String> words, int[] puzzles) {
+        this(words.size(), checksumOf(words), puzzles);
+    }
+
+    private PuzzleCatalog(int wordCount, long checksum, int[] puzzles) {
+        this.wordCount = wordCount;
+        this.checksum = checksum;
+        this.puzzles = puzzles;
+    }
+
+    /**
+     * Packs a letter mask and a center letter into a puzzle.
+     *
+     * @param mask The letter mask of the seven letters.
+     * @param centerLetter The center letter.
+     * @return The packed puzzle.
+     */
+    public static int pack(int mask, char centerLetter) {
+        return mask | ((centerLetter - 'a') << CENTER_SHIFT);
+    }
+
+    /**
+     * Returns the letter mask of a packed puzzle.
+     *
+     * @param puzzle The packed puzzle.
+     * @return The letter mask of the seven letters.
+     */
+    public static int maskOf(int puzzle) {
+        return puzzle & ((1 << CENTER_SHIFT) - 1);
+    }
+
+    /**
+     * Returns the center letter of a packed puzzle.
+     *
+     * @param puzzle The packed puzzle.
+     * @return The center letter.
+     */
+    public static char centerLetterOf(int puzzle) {
+        return (char) ('a' + (puzzle >>> CENTER_SHIFT));
+    }
+
+    /**
+     * Loads the catalog bundled with the application.
+     *
+     * @return The bundled PuzzleCatalog, or null if there is none or it cannot be read.
+     */
+    public static PuzzleCatalog load() {
+        try (InputStream in = PuzzleCatalog.class.getClassLoader().getResourceAsStream(FILE_PATH)) {
+            if (in == null) return null;
+            return read(in);
+        } catch (IOException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads a catalog from a stream.
+     *
+     * @param in The stream to read from.
+     * @return The PuzzleCatalog read from the stream.
+     * @throws IOException If the stream cannot be read or is not a puzzle catalog.
+     */
+    public static PuzzleCatalog read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC || data.readInt() != VERSION) {
+            throw new IOException("Not a puzzle catalog");
+        }
+
+        int wordCount = data.readInt();
+        long checksum = data.readLong();
+        int[] puzzles = new int[data.readInt()];
+        for (int i = 0; i < puzzles.length; i++) {
+            puzzles[i] = data.readInt();
+        }
+
+        return new PuzzleCatalog(wordCount, checksum, puzzles);
+    }
+
+    /**
+     * Writes the catalog to a stream.
+     *
+     * @param out The stream to write to.
+     * @throws IOException If the stream cannot be written.
+     */
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(wordCount);
+        data.writeLong(checksum);
+        data.writeInt(puzzles.length);
+        for (int puzzle : puzzles) {
+            data.writeInt(puzzle);
+        }
+        data.flush();
+    }
+
+    /**
+     * Checks if the catalog was generated from the given dictionary.
+     *
+     * @param words The dictionary.
+     * @return true if the dictionary has the same words as the one the catalog was generated from.
+     */
+    public boolean isFor(List<String> words) {
+        return words.size() == wordCount && checksumOf(words) == checksum;
+    }
+
+    /**
+     * Computes a checksum over all words of a dictionary or game in order.
+     *
+     * @param words The words.
+     * @return The checksum of the words.
+     */
+    public static long checksumOf(List<String> words) {
+        CRC32 crc = new CRC32();
+        for (String word : words) {
+            crc.update(word.getBytes(StandardCharsets.UTF_8));
+            crc.update('\n');
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Returns the number of puzzles in the catalog.
+     *
+     * @return The size of the catalog.
+     */
+    public int size() {
+        return puzzles.length;
+    }
+
+    /**
+     * Returns the letter mask of a puzzle.
+     *
+     * @param i The position of the puzzle in the catalog.
+     * @return The letter mask of the seven letters.
+     */
+    public int getMask(int i) {
+        return maskOf(puzzles[i]);
+    }
+
+    /**
+     * Returns the center letter of a puzzle.
+     *
+     * @param i The position of the puzzle in the catalog.
+     * @return The center letter.
+     */
+    public char getCenterLetter(int i) {
+        return centerLetterOf(puzzles[i]);
+    }
+}
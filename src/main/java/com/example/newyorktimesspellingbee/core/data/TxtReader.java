@@ -1,5 +1,7 @@
 package com.example.newyorktimesspellingbee.core.data;
 
+import com.example.newyorktimesspellingbee.core.events.DictionaryLoadEvent;
+
 import java.io.File;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -14,6 +16,7 @@ public class TxtReader implements DataReader {
     private final String FILE_PATH = "com/example/newyorktimesspellingbee/data.txt";
     private final File file;   // File object representing the data file.
     private List<String> data; // Cached data read from the file.
+    private WordIndex index;   // Cached index of the data.
 
     /**
      * Constructor for TxtReader.
@@ -29,22 +32,22 @@ public class TxtReader implements DataReader {
      * Words are filtered to exclude those with less than 4 characters.
      * Also performs normalization of specific accented characters to their basic Latin equivalents.
      * This is particularly useful for processing English text with borrowed words that may contain accents.
+     * Reading the file is recorded as a DictionaryLoadEvent.
      *
      * @return List of strings representing the words read from the file.
      */
     @Override
     public List<String> read() {
         List<String> words = new ArrayList<>();
+        DictionaryLoadEvent event = new DictionaryLoadEvent();
         try {
             if (data != null) return data; // Return cached data if already read
 
+            event.begin();
             Scanner scanner = new Scanner(file, StandardCharsets.UTF_8);
             while (scanner.hasNextLine()) {
-                String line = scanner.nextLine();
-                if (line.length() > 3) { // Filter out words with less than 4 characters
-                    line = replaceCharacters(line); // Normalize characters in the line
-                    words.add(line);
-                }
+                String word = WordNormalizer.toWord(scanner.nextLine()); // Normalize characters in the line
+                if (word != null) words.add(word);
             }
             scanner.close();
 
@@ -52,27 +55,22 @@ public class TxtReader implements DataReader {
             // Exception handling (e.g., logging the error, returning an empty list, or rethrowing)
         }
 
+        event.setReader(getClass().getSimpleName());
+        event.setSource(FILE_PATH);
+        event.setWordCount(words.size());
+        event.commit();
         return data = words; // Cache and return the list of words
     }
+
     /**
-     * Normalizes specific accented characters in the given string to their basic Latin equivalents.
-     * This method is particularly useful for English texts where accented characters
-     * might appear but need to be standardized to non-accented versions.
+     * Returns the words of the file grouped by letter mask.
+     * The index is built on the first call and cached together with the words.
      *
-     * @param str The string in which the characters are to be normalized.
-     * @return A new string with the normalized characters.
+     * @return WordIndex of the words read from the file.
      */
-
-    private String replaceCharacters(String str) {
-        str = str.toLowerCase();
-
-        str = str.replaceAll("á", "a");
-        str = str.replaceAll("é", "e");
-        str = str.replaceAll("í", "i");
-        str = str.replaceAll("ó", "o");
-        str = str.replaceAll("ú", "u");
-        str = str.replaceAll("ñ", "n");
-
-        return str;
+    @Override
+    public WordIndex readIndex() {
+        if (index != null) return index;
+        return index = WordIndex.of(read());
     }
 }
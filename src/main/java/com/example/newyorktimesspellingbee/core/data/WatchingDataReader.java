@@ -0,0 +1,206 @@
+package com.example.newyorktimesspellingbee.core.data;
+
+import com.example.newyorktimesspellingbee.core.results.LoadReport;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * WatchingDataReader is a DataReader for an external word file that is reloaded whenever the file changes.
+ * The file is normalized like MappedTxtReader does it, but read into memory instead of mapped, since editors truncate
+ * and rewrite the file while it is watched. The changes are applied to the current WordIndex
+ * with WordIndex.update(), so only the added and removed words are indexed and counted in the pangram catalog.
+ * Every reload publishes a new immutable index at once: games that are running keep the GameData they were
+ * created with, and games created afterwards see the changed dictionary.
+ * Every load is described by a LoadReport, which is handed to the reload listener after the file changed.
+ */
+public class WatchingDataReader implements DataReader, AutoCloseable {
+    private final long SETTLE_MILLIS = 200; // Time without further changes before the file is read.
+    private final Path path;                // Path of the word file.
+    private final AtomicReference<WordIndex> snapshot = new AtomicReference<>(); // Index of the current words.
+    private final Consumer<LoadReport> reloadListener; // Called with the report of every reload after a change.
+    private final WatchService watchService;
+    private final Thread watcher;
+    private volatile LoadReport loadReport;  // Report of the last load.
+
+    /**
+     * Constructor for WatchingDataReader. The file is read on first use and watched from now on.
+     *
+     * @param path The path of the word file.
+     * @throws IOException If the directory of the file cannot be watched.
+     */
+    public WatchingDataReader(Path path) throws IOException {
+        this(path, report -> { });
+    }
+
+    /**
+     * Constructor for WatchingDataReader. The file is read on first use and watched from now on.
+     *
+     * @param path The path of the word file.
+     * @param reloadListener The listener called on the watcher thread with the LoadReport of every reload
+     *                       after the file changed.
+     * @throws IOException If the directory of the file cannot be watched.
+     */
+    public WatchingDataReader(Path path, Consumer<LoadReport> reloadListener) throws IOException {
+        this.path = path.toAbsolutePath();
+        this.reloadListener = reloadListener;
+        watchService = FileSystems.getDefault().newWatchService();
+        this.path.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+        watcher = new Thread(this::watch, "dictionary-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    /**
+     * Returns the words of the current version of the file.
+     *
+     * @return List of strings representing the words read from the file.
+     */
+    @Override
+    public List<String> read() {
+        return readIndex().getWords();
+    }
+
+    /**
+     * Returns the index of the current version of the file. The returned index is never modified,
+     * later versions of the file are published as new indexes.
+     *
+     * @return WordIndex of the words read from the file.
+     */
+    @Override
+    public WordIndex readIndex() {
+        WordIndex index = snapshot.get();
+        return index != null ? index : reload();
+    }
+
+    /**
+     * Returns the report of the last load of the file.
+     *
+     * @return The LoadReport, or null if the file was not read yet.
+     */
+    public LoadReport getLoadReport() {
+        return loadReport;
+    }
+
+    /**
+     * Reads the file and publishes an index of its words, updated from the current index if there is one.
+     * Once words were published, a file that cannot be read, is empty or changes while it is read is ignored
+     * and reported as an error.
+     *
+     * @return The published index.
+     */
+    public synchronized WordIndex reload() {
+        long start = System.nanoTime();
+        WordIndex current = snapshot.get();
+        List<String> words = new ArrayList<>();
+        String error = null;
+        try {
+            BasicFileAttributes before = Files.readAttributes(path, BasicFileAttributes.class);
+            MappedTxtReader.readLines(ByteBuffer.wrap(Files.readAllBytes(path)), words);
+            BasicFileAttributes after = Files.readAttributes(path, BasicFileAttributes.class);
+            if (before.size() != after.size() || !before.lastModifiedTime().equals(after.lastModifiedTime())) {
+                error = "The file changed while it was read, the current words are kept";
+            } else if (words.isEmpty()) { // The file is being replaced
+                error = "No words read, the current words are kept";
+            }
+        } catch (IOException exception) {
+            error = "The file could not be read, the current words are kept: " + exception.getMessage();
+        }
+        if (current != null && error != null) {
+            loadReport = reportOf(0, current, start, error);
+            return current;
+        }
+        WordIndex next = current == null ? WordIndex.of(words) : current.update(words);
+        snapshot.set(next);
+        loadReport = reportOf(words.size(), next, start, null);
+        return next;
+    }
+
+    /**
+     * Describes a load of the file.
+     *
+     * @param readCount The number of words read from the file.
+     * @param index The index published after the load.
+     * @param start The System.nanoTime() the load started at.
+     * @param error The reason the words read were not used, or null.
+     * @return The LoadReport of the load.
+     */
+    private LoadReport reportOf(int readCount, WordIndex index, long start, String error) {
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+        LoadReport.Source source = new LoadReport.Source(path.toString(), readCount, readCount, duration, error);
+        return new LoadReport(List.of(source), index.getWords().size(), duration);
+    }
+
+    /**
+     * Waits for changes of the file and reloads it once it has not changed for SETTLE_MILLIS,
+     * so a file that is written in several steps is read only once. A failed reload is reported to the listener
+     * and does not stop the watcher.
+     */
+    private void watch() {
+        try {
+            while (true) {
+                boolean changed = isFileChanged(watchService.take());
+                WatchKey key;
+                while ((key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= isFileChanged(key);
+                }
+                if (changed && snapshot.get() != null) {
+                    long start = System.nanoTime();
+                    try {
+                        reload();
+                    } catch (RuntimeException | Error exception) { // Keep watching, the next change may be readable
+                        loadReport = reportOf(0, snapshot.get(), start, "The file could not be read, the current words are kept: " + exception);
+                    }
+                    reloadListener.accept(loadReport);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException exception) {
+            // The reader was closed
+        }
+    }
+
+    /**
+     * Checks if the events of a watch key concern the word file, and resets the key.
+     *
+     * @param key The signalled watch key.
+     * @return true if the word file was created or modified.
+     */
+    private boolean isFileChanged(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || path.getFileName().equals(event.context())) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    /**
+     * Stops watching the file. The current index stays available.
+     *
+     * @throws IOException If the watch service cannot be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        watcher.interrupt();
+        watchService.close();
+    }
+}
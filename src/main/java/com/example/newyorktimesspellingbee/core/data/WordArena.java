@@ -0,0 +1,376 @@
+package com.example.newyorktimesspellingbee.core.data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * WordArena stores the words of a dictionary in a single byte array instead of one String per word.
+ * Every word is identified by its id, its position in the dictionary, and is described by an offset into
+ * the byte array and its letter mask. Words are looked up by content through an open addressing table
+ * of ids, so checking whether a word exists neither creates nor hashes a String.
+ * Filters and games refer to words by id and only turn them into Strings when they are displayed.
+ * The arena is never modified after construction and can be shared between threads.
+ */
+public class WordArena {
+    private final byte[] bytes;   // The words, UTF-8 encoded and stored back to back.
+    private final int[] offsets;  // Start of every word in bytes, followed by the end of the last word.
+    private final int[] masks;    // Letter mask of every word.
+    private final int[] table;    // Open addressing table of word ids plus one, 0 marks an empty slot.
+
+    /**
+     * Constructs a WordArena from already encoded words.
+     *
+     * @param bytes The words, UTF-8 encoded and stored back to back.
+     * @param offsets The start of every word in bytes, followed by the end of the last word.
+     * @param masks The letter mask of every word.
+     */
+    public WordArena(byte[] bytes, int[] offsets, int[] masks) {
+        this(bytes, offsets, masks, null);
+    }
+
+    /**
+     * Constructs a WordArena that extends another arena's words, reusing its lookup table if it has room.
+     *
+     * @param bytes The words, UTF-8 encoded and stored back to back.
+     * @param offsets The start of every word in bytes, followed by the end of the last word.
+     * @param masks The letter mask of every word.
+     * @param previous The arena whose words are the first words of this arena, or null.
+     */
+    private WordArena(byte[] bytes, int[] offsets, int[] masks, WordArena previous) {
+        this.bytes = bytes;
+        this.offsets = offsets;
+        this.masks = masks;
+
+        int firstId = 0;
+        if (previous != null && size() * 2 <= previous.table.length) {
+            table = previous.table.clone();
+            firstId = previous.size();
+        } else {
+            table = new int[Math.max(2, Integer.highestOneBit(Math.max(1, size()) * 2) * 2)];
+        }
+        for (int id = firstId; id < size(); id++) {
+            int slot = hash(id) & (table.length - 1);
+            while (table[slot] != 0 && !sameWord(table[slot] - 1, id)) {
+                slot = (slot + 1) & (table.length - 1);
+            }
+            if (table[slot] == 0) table[slot] = id + 1; // Duplicate words keep the id of their first occurrence
+        }
+    }
+
+    /**
+     * Builds an arena holding the given words, in list order.
+     *
+     * @param words The list of words.
+     * @return A WordArena whose word ids are the positions in the list.
+     */
+    public static WordArena of(List<String> words) {
+        byte[][] encoded = new byte[words.size()][];
+        int[] offsets = new int[words.size() + 1];
+        int[] masks = new int[words.size()];
+
+        int id = 0;
+        for (String word : words) {
+            encoded[id] = word.getBytes(StandardCharsets.UTF_8);
+            offsets[id + 1] = offsets[id] + encoded[id].length;
+            masks[id++] = LetterMask.of(word);
+        }
+
+        byte[] bytes = new byte[offsets[words.size()]];
+        for (int i = 0; i < encoded.length; i++) {
+            System.arraycopy(encoded[i], 0, bytes, offsets[i], encoded[i].length);
+        }
+
+        return new WordArena(bytes, offsets, masks);
+    }
+
+    /**
+     * Builds an arena holding the words of this arena followed by the given words.
+     * This arena is not modified, so ids handed out before stay valid in both arenas.
+     *
+     * @param words The words to add.
+     * @return A WordArena whose first ids are the ids of this arena, or this arena if there are no words to add.
+     */
+    public WordArena append(List<String> words) {
+        if (words.isEmpty()) return this;
+
+        byte[][] encoded = new byte[words.size()][];
+        int byteCount = 0;
+        int i = 0;
+        for (String word : words) {
+            encoded[i] = word.getBytes(StandardCharsets.UTF_8);
+            byteCount += encoded[i++].length;
+        }
+
+        byte[] newBytes = Arrays.copyOf(bytes, bytes.length + byteCount);
+        int[] newOffsets = Arrays.copyOf(offsets, offsets.length + words.size());
+        int[] newMasks = Arrays.copyOf(masks, masks.length + words.size());
+
+        int id = size();
+        for (String word : words) {
+            byte[] wordBytes = encoded[id - size()];
+            System.arraycopy(wordBytes, 0, newBytes, newOffsets[id], wordBytes.length);
+            newOffsets[id + 1] = newOffsets[id] + wordBytes.length;
+            newMasks[id++] = LetterMask.of(word);
+        }
+
+        return new WordArena(newBytes, newOffsets, newMasks, this);
+    }
+
+    /**
+     * Returns the number of words in the arena.
+     *
+     * @return The word count, duplicates included.
+     */
+    public int size() {
+        return masks.length;
+    }
+
+    /**
+     * Returns a word as a String.
+     *
+     * @param id The id of the word.
+     * @return The word.
+     */
+    public String getWord(int id) {
+        return new String(bytes, offsets[id], getLength(id), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the length of a word in bytes, which is its length in characters for the English words of a game.
+     *
+     * @param id The id of the word.
+     * @return The length of the word.
+     */
+    public int getLength(int id) {
+        return offsets[id + 1] - offsets[id];
+    }
+
+    /**
+     * Returns the letter mask of a word.
+     *
+     * @param id The id of the word.
+     * @return The letter mask of the word, see LetterMask.
+     */
+    public int getMask(int id) {
+        return masks[id];
+    }
+
+    /**
+     * Finds the id of a word. Only ASCII words can be found, which includes every word of a game.
+     *
+     * @param word The word to look up.
+     * @return The id of the first occurrence of the word, or -1 if the arena does not contain it.
+     */
+    public int find(CharSequence word) {
+        int hash = 0;
+        for (int i = 0; i < word.length(); i++) {
+            char ch = word.charAt(i);
+            if (ch >= 0x80) return -1;
+            hash = 31 * hash + ch;
+        }
+
+        int slot = mix(hash) & (table.length - 1);
+        while (table[slot] != 0) {
+            int id = table[slot] - 1;
+            if (equals(id, word)) return id;
+            slot = (slot + 1) & (table.length - 1);
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if a word of the arena is equal to the given ASCII word.
+     *
+     * @param id The id of the word.
+     * @param word The word to compare with.
+     * @return true if both words have the same characters.
+     */
+    private boolean equals(int id, CharSequence word) {
+        if (getLength(id) != word.length()) return false;
+
+        int offset = offsets[id];
+        for (int i = 0; i < word.length(); i++) {
+            if (bytes[offset + i] != word.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Checks if two words of the arena have the same bytes.
+     *
+     * @param first The id of the first word.
+     * @param second The id of the second word.
+     * @return true if both words are equal.
+     */
+    private boolean sameWord(int first, int second) {
+        return Arrays.equals(bytes, offsets[first], offsets[first + 1], bytes, offsets[second], offsets[second + 1]);
+    }
+
+    /**
+     * Hashes the bytes of a word the same way find() hashes the characters of an ASCII word.
+     *
+     * @param id The id of the word.
+     * @return The slot hash of the word.
+     */
+    private int hash(int id) {
+        int hash = 0;
+        for (int i = offsets[id]; i < offsets[id + 1]; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        return mix(hash);
+    }
+
+    /**
+     * Spreads the bits of a hash so that the low bits used for the slot depend on the whole word.
+     *
+     * @param hash The hash to mix.
+     * @return The mixed hash.
+     */
+    private static int mix(int hash) {
+        hash *= 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Returns all words of the arena as a list.
+     *
+     * @return An unmodifiable list view, in id order.
+     */
+    public List<String> asList() {
+        return new WordList(this, null, 0, size());
+    }
+
+    /**
+     * Returns the words with the given ids as a list.
+     *
+     * @param ids The ids of the words. The array is shared with the view and must not be modified.
+     * @return An unmodifiable list view, in the order of the ids.
+     */
+    public List<String> asList(int[] ids) {
+        return asList(ids, 0, ids.length);
+    }
+
+    /**
+     * Returns the words with the ids in a range of an array as a list.
+     *
+     * @param ids The ids of the words. The array is shared with the view and must not be modified.
+     * @param from The first position of the range, inclusive.
+     * @param to The last position of the range, exclusive.
+     * @return An unmodifiable list view, in the order of the ids.
+     */
+    public List<String> asList(int[] ids, int from, int to) {
+        return new WordList(this, ids, from, to);
+    }
+
+    /**
+     * Collects distinct words one at a time into growing arrays, so a dictionary can be built from a stream
+     * of words without keeping a String per word. Duplicate words are recognized by their bytes and skipped.
+     */
+    public static final class Builder {
+        private byte[] bytes = new byte[1 << 16];
+        private int[] offsets = new int[1 << 12];
+        private int[] masks = new int[1 << 12];
+        private int[] table = new int[1 << 13]; // Open addressing table of word ids plus one.
+        private int size = 0;
+
+        /**
+         * Adds a word unless the builder already holds it.
+         *
+         * @param word The word to add.
+         * @return true if the word was added, false if it is a duplicate.
+         */
+        public boolean add(String word) {
+            byte[] wordBytes = word.getBytes(StandardCharsets.UTF_8);
+            int hash = 0;
+            for (byte b : wordBytes) hash = 31 * hash + b;
+            hash = mix(hash);
+
+            int slot = hash & (table.length - 1);
+            while (table[slot] != 0) {
+                int id = table[slot] - 1;
+                if (Arrays.equals(bytes, offsets[id], offsets[id + 1], wordBytes, 0, wordBytes.length)) return false;
+                slot = (slot + 1) & (table.length - 1);
+            }
+
+            if (size + 2 > offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                masks = Arrays.copyOf(masks, masks.length * 2);
+            }
+            int offset = offsets[size];
+            if (offset + wordBytes.length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, offset + wordBytes.length));
+            }
+            System.arraycopy(wordBytes, 0, bytes, offset, wordBytes.length);
+            offsets[size + 1] = offset + wordBytes.length;
+            masks[size] = LetterMask.of(word);
+            table[slot] = ++size;
+
+            if (size * 2 > table.length) rehash();
+            return true;
+        }
+
+        /**
+         * Doubles the lookup table and reinserts every word.
+         */
+        private void rehash() {
+            table = new int[table.length * 2];
+            for (int id = 0; id < size; id++) {
+                int hash = 0;
+                for (int i = offsets[id]; i < offsets[id + 1]; i++) hash = 31 * hash + bytes[i];
+
+                int slot = mix(hash) & (table.length - 1);
+                while (table[slot] != 0) slot = (slot + 1) & (table.length - 1);
+                table[slot] = id + 1;
+            }
+        }
+
+        /**
+         * Returns the number of words added so far.
+         *
+         * @return The word count.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Builds an arena holding the added words, in the order they were added.
+         *
+         * @return A WordArena of distinct words.
+         */
+        public WordArena build() {
+            return new WordArena(Arrays.copyOf(bytes, offsets[size]), Arrays.copyOf(offsets, size + 1), Arrays.copyOf(masks, size));
+        }
+    }
+
+    /**
+     * Unmodifiable list view of words of an arena. Words are turned into Strings only when they are read.
+     */
+    private static final class WordList extends AbstractList<String> implements RandomAccess {
+        private final WordArena arena;
+        private final int[] ids; // Ids of the words, or null for all words of the arena.
+        private final int from;
+        private final int to;
+
+        private WordList(WordArena arena, int[] ids, int from, int to) {
+            this.arena = arena;
+            this.ids = ids;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= size()) throw new IndexOutOfBoundsException(index);
+            return arena.getWord(ids == null ? from + index : ids[from + index]);
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+}
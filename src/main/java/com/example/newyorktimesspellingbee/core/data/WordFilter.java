@@ -1,8 +1,12 @@
 package com.example.newyorktimesspellingbee.core.data;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
 
 /**
  * WordFilter is a class that implements the DataFilter interface.
@@ -10,6 +14,25 @@ import java.util.Random;
  * relevant to the New York Times Spelling Bee game.
  */
 public class WordFilter implements DataFilter{
+    private final Random random;          // Picks the pangrams and mixes the letters of random games.
+    private volatile MaskCache maskCache; // Letter masks of the last filtered dictionary.
+
+    /**
+     * Constructs a WordFilter that picks different random games on every run.
+     */
+    public WordFilter() {
+        this(new Random());
+    }
+
+    /**
+     * Constructs a WordFilter that picks random games with the given random generator,
+     * so a seeded generator picks the same games in the same order on every run.
+     *
+     * @param random The random generator.
+     */
+    public WordFilter(Random random) {
+        this.random = random;
+    }
 
     /**
      * Filters words by randomly selecting a pangram and then filtering the list based on the unique letters
@@ -20,7 +43,6 @@ public class WordFilter implements DataFilter{
      */
     @Override
     public FilteredData filter(List<String> words) {
-        Random random = new Random();
         List<String> pangramWords = findPangrams(words);
         String randomPangram = pangramWords.get(random.nextInt(pangramWords.size()));
         List<Character> uniqueLetters = getUniqueLetters(randomPangram);
@@ -33,8 +55,8 @@ public class WordFilter implements DataFilter{
     }
 
     /**
-     * Filters words based on provided letters. It applies multiple filters like excluding words
-     * that contain unused letters, not containing the center letter, or appearing more than once.
+     * Filters words based on provided letters. It excludes words that contain unused letters, do not contain
+     * the center letter or appear more than once, and finds the pangrams and total points, all in a single pass.
      *
      * @param words The list of words to be filtered.
      * @param letters The string of letters used for filtering.
@@ -42,14 +64,129 @@ public class WordFilter implements DataFilter{
      */
     @Override
     public FilteredData filter(List<String> words, String letters) {
-        char centerLetter = letters.charAt(letters.length() / 2);
+        int lettersMask = LetterMask.of(letters);
+        int centerBit = LetterMask.bit(letters.charAt(letters.length() / 2));
+        int[] masks = masksOf(words);
+
+        List<String> filteredWords = new ArrayList<>();
+        int[] pangramIds = new int[8];
+        int pangramCount = 0;
+        Set<String> seenWords = new HashSet<>();
+        int totalPoint = 0;
 
-        List<String> firstFilter = filterWordsContainUnusedLetters(words, letters);
-        List<String> secondFilter = filterWordsNotContainCenterLetter(firstFilter, centerLetter);
-        List<String> thirdFilter = filterWordsAppearMoreThanOnce(secondFilter);
-        List<String> pangramWords = findPangrams(thirdFilter, letters);
+        int i = 0;
+        for (String word : words) {
+            int wordMask = masks[i++];
+            if (!LetterMask.isSubset(wordMask, lettersMask) || !containsCenterLetter(wordMask, centerBit)) continue;
+            if (!seenWords.add(word)) continue;
+
+            boolean pangram = isWordPangram(wordMask, lettersMask);
+            if (pangram) pangramIds = append(pangramIds, pangramCount++, filteredWords.size());
+            filteredWords.add(word);
+            totalPoint += LetterMask.pointOf(word.length(), pangram);
+        }
 
-        return new FilteredData(thirdFilter, pangramWords, letters);
+        WordArena arena = WordArena.of(filteredWords);
+        int[] wordIds = new int[filteredWords.size()];
+        Arrays.setAll(wordIds, id -> id);
+        return new FilteredData(arena, wordIds, Arrays.copyOf(pangramIds, pangramCount), letters, totalPoint, false);
+    }
+
+    /**
+     * Filters indexed words by randomly selecting a seven letter set from the index's pangram catalog
+     * and then looking up the words that can be made from its letters.
+     *
+     * @param index The index of the words to be filtered.
+     * @return FilteredData containing the filtered list of words.
+     */
+    @Override
+    public FilteredData filter(WordIndex index) {
+        return filter(index, Integer.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Filters indexed words like filter(WordIndex), but stops as soon as the words exceed one of the limits.
+     *
+     * @param index The index of the words to be filtered.
+     * @param maxWordCount The word count above which filtering stops.
+     * @param maxTotalPoint The total points above which filtering stops.
+     * @return FilteredData containing the filtered list of words, marked as truncated if filtering stopped early.
+     */
+    @Override
+    public FilteredData filter(WordIndex index, int maxWordCount, int maxTotalPoint) {
+        PangramCatalog catalog = index.getPangramCatalog();
+        int mask = catalog.getMask(random.nextInt(catalog.size()));
+        List<Character> uniqueLetters = getUniqueLetters(LetterMask.letters(mask));
+
+        StringBuilder letters = new StringBuilder();
+        mixLetters(uniqueLetters);
+        uniqueLetters.forEach(letters::append);
+
+        return filter(index, letters.toString(), maxWordCount, maxTotalPoint);
+    }
+
+    /**
+     * Filters indexed words based on provided letters without scanning the dictionary.
+     *
+     * @param index The index of the words to be filtered.
+     * @param letters The string of letters used for filtering.
+     * @return FilteredData containing the filtered list of words and pangrams.
+     */
+    @Override
+    public FilteredData filter(WordIndex index, String letters) {
+        return filter(index, letters, Integer.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Filters indexed words based on provided letters without scanning the dictionary.
+     * Every accepted word's letter mask is a subset of the letters that contains the center letter,
+     * so the result is collected by looking up each of those subsets in the index. Word count, points and
+     * pangrams are accumulated on the way, and the lookup stops as soon as the word count or the points
+     * exceed their limit. The pangram subset is looked up first, so the pangrams are complete even then.
+     * Words are collected as ids of the index's arena, so no String is created.
+     *
+     * @param index The index of the words to be filtered.
+     * @param letters The string of letters used for filtering.
+     * @param maxWordCount The word count above which filtering stops.
+     * @param maxTotalPoint The total points above which filtering stops.
+     * @return FilteredData containing the filtered list of words and pangrams, marked as truncated if filtering stopped early.
+     */
+    @Override
+    public FilteredData filter(WordIndex index, String letters, int maxWordCount, int maxTotalPoint) {
+        int lettersMask = LetterMask.of(letters);
+        int centerBit = LetterMask.bit(letters.charAt(letters.length() / 2));
+        int otherLetters = lettersMask & ~centerBit;
+
+        WordArena arena = index.getArena();
+
+        int[] wordIds = new int[64];
+        int wordCount = 0;
+        int pangramCount = 0;
+        int totalPoint = 0;
+        boolean truncated = false;
+
+        int subset = otherLetters;
+        while (true) {
+            boolean pangram = (subset | centerBit) == lettersMask;
+            int bucket = index.findBucket(subset | centerBit);
+            if (bucket >= 0) {
+                for (int i = index.getBucketStart(bucket); i < index.getBucketEnd(bucket); i++) {
+                    int id = index.getGroupedId(i);
+                    wordIds = append(wordIds, wordCount++, id);
+                    totalPoint += LetterMask.pointOf(arena.getLength(id), pangram);
+                }
+                if (pangram) pangramCount = wordCount;
+            }
+            if (wordCount > maxWordCount || totalPoint > maxTotalPoint) {
+                truncated = true;
+                break;
+            }
+            if (subset == 0) break;
+            subset = (subset - 1) & otherLetters;
+        }
+
+        int[] pangramIds = Arrays.copyOf(wordIds, pangramCount); // The pangram subset is looked up first
+        return new FilteredData(arena, Arrays.copyOf(wordIds, wordCount), pangramIds, letters, totalPoint, truncated);
     }
 
     /**
@@ -60,10 +197,11 @@ public class WordFilter implements DataFilter{
      */
     private List<String> findPangrams(List<String> words) {
         List<String> pangramWords = new LinkedList<>();
+        int[] masks = masksOf(words);
 
+        int i = 0;
         for (String word : words) {
-            int uniqueLetterCount = getUniqueLetterCount(word);
-            if (uniqueLetterCount == 7) {
+            if (getUniqueLetterCount(masks[i++]) == 7) {
                 pangramWords.add(word);
             }
         }
@@ -79,10 +217,13 @@ public class WordFilter implements DataFilter{
      */
     private List<Character> getUniqueLetters(String word) {
         List<Character> uniqueCharacters = new LinkedList<>();
+        int seen = 0;
 
         for (int i = 0; i < word.length(); i++) {
             char ch = word.charAt(i);
-            if (!uniqueCharacters.contains(ch)) {
+            int bit = LetterMask.bit(ch);
+            if ((seen & bit) == 0) {
+                seen |= bit;
                 uniqueCharacters.add(ch);
             }
         }
@@ -91,134 +232,72 @@ public class WordFilter implements DataFilter{
     }
 
     /**
-     * Counts the number of unique letters in a given word.
+     * Counts the number of unique letters in a word mask.
+     * Masks of words that contain non English letters never count as seven letters.
      *
-     * @param word The word to count unique letters in.
+     * @param wordMask The letter mask of the word.
      * @return The count of unique letters.
      */
-    private int getUniqueLetterCount(String word) {
-        List<Character> characters = new LinkedList<>();
-        for (int i = 0; i < word.length(); i++) {
-            char ch = word.charAt(i);
-            if (!characters.contains(ch)) {
-                characters.add(ch);
-            }
-        }
-
-        return characters.size();
-    }
-
-    /**
-     * Finds pangram words from a list of words based on a given set of letters.
-     *
-     * @param words The list of words to search for pangrams.
-     * @param letters The set of letters to use for identifying pangrams.
-     * @return A list of pangram words.
-     */
-    private List<String> findPangrams(List<String> words, String letters) {
-        List<String> pangramWords = new LinkedList<>();
-        for (String word : words) {
-            if (isWordPangram(word, letters)) {
-                pangramWords.add(word);
-            }
-        }
-
-        return pangramWords;
+    private int getUniqueLetterCount(int wordMask) {
+        if ((wordMask & LetterMask.INVALID) != 0) return -1;
+        return LetterMask.size(wordMask);
     }
 
     /**
-     * Determines if a given word is a pangram based on a set of letters.
+     * Determines if a word is a pangram based on a set of letters.
      *
-     * @param word The word to check.
-     * @param letters The set of letters to use for checking.
+     * @param wordMask The letter mask of the word to check.
+     * @param lettersMask The letter mask of the set of letters.
      * @return true if the word is a pangram, false otherwise.
      */
-    private boolean isWordPangram(String word, String letters) {
-        int letterCount = 0;
-        for (int i = 0; i < letters.length(); i++) {
-            for (int j = 0; j < word.length(); j++) {
-                char ch = word.charAt(j);
-                if (ch == letters.charAt(i)) {
-                    letterCount++;
-                    break;
-                }
-            }
-        }
-
-        return letterCount == letters.length();
+    private boolean isWordPangram(int wordMask, int lettersMask) {
+        return (wordMask & lettersMask) == lettersMask;
     }
 
     /**
-     * Filters out words that contain letters not present in the given string of letters.
+     * Checks if a word mask contains the center letter.
      *
-     * @param words The list of words to be filtered.
-     * @param letters The string of letters used for filtering.
-     * @return A list of words that do not contain unused letters.
+     * @param wordMask The letter mask of the word.
+     * @param centerBit The bit of the center letter.
+     * @return true if the word contains the center letter.
      */
-    private List<String> filterWordsContainUnusedLetters(List<String> words, String letters) {
-        List<String> filteredWords = new LinkedList<>();
-        for (String word : words) {
-            boolean containsUnusedLetter = false;
-            for (int i = 0; i < word.length(); i++) {
-                char ch = word.charAt(i);
-                if (!lettersContainCharacter(letters, ch)) {
-                    containsUnusedLetter = true;
-                    break;
-                }
-            }
-
-            if (!containsUnusedLetter) {
-                filteredWords.add(word);
-            }
-        }
-
-        return filteredWords;
+    private boolean containsCenterLetter(int wordMask, int centerBit) {
+        return (wordMask & centerBit) != 0;
     }
 
     /**
-     * Filters out words that do not contain the specified center letter.
+     * Stores an id at the given position of an array, growing the array if it is full.
      *
-     * @param words The list of words to be filtered.
-     * @param centerLetter The center letter that must be present in the words.
-     * @return A list of words that contain the center letter.
+     * @param ids The array of ids.
+     * @param position The position to store the id at.
+     * @param id The id to store.
+     * @return The array holding the id, either the given one or a larger copy of it.
      */
-    private List<String> filterWordsNotContainCenterLetter(List<String> words, char centerLetter) {
-        List<String> filteredWords = new LinkedList<>();
-        for (String word : words) {
-            boolean containsCenterLetter = false;
-
-            for (int i = 0; i < word.length(); i++) {
-                char ch = word.charAt(i);
-                if (ch == centerLetter) {
-                    containsCenterLetter = true;
-                    break;
-                }
-            }
-
-            if (containsCenterLetter) {
-                filteredWords.add(word);
-            }
-        }
-
-        return filteredWords;
+    private int[] append(int[] ids, int position, int id) {
+        if (position == ids.length) ids = Arrays.copyOf(ids, ids.length * 2);
+        ids[position] = id;
+        return ids;
     }
 
     /**
-     * Filters out duplicate words, ensuring each word appears only once in the list.
+     * Returns the letter masks of the given words, computing them only once per dictionary.
+     * The masks of the last dictionary are cached, since the same word list is filtered on every game start.
      *
-     * @param words The list of words to be filtered.
-     * @return A list of unique words.
+     * @param words The list of words.
+     * @return An array holding the letter mask of every word, in list order.
      */
-    private List<String> filterWordsAppearMoreThanOnce(List<String> words) {
-        List<String> filteredWords = new LinkedList<>();
+    private int[] masksOf(List<String> words) {
+        MaskCache cache = maskCache;
+        if (cache != null && cache.words == words && cache.masks.length == words.size()) return cache.masks;
 
+        int[] wordMasks = new int[words.size()];
+        int i = 0;
         for (String word : words) {
-            if (!filteredWords.contains(word)) {
-                filteredWords.add(word);
-            }
+            wordMasks[i++] = LetterMask.of(word);
         }
 
-        return filteredWords;
+        maskCache = new MaskCache(words, wordMasks);
+        return wordMasks;
     }
 
     /**
@@ -227,8 +306,6 @@ public class WordFilter implements DataFilter{
      * @param letters The list of characters to be mixed.
      */
     private void mixLetters(List<Character> letters) {
-        Random random = new Random();
-
         for (int i = 0; i < letters.size(); i++) {
             int randomIndex = random.nextInt(letters.size());
             char temp = letters.get(randomIndex);
@@ -239,19 +316,15 @@ public class WordFilter implements DataFilter{
     }
 
     /**
-     * Checks if a given string of letters contains a specific character.
-     *
-     * @param letters The string of letters to check.
-     * @param character The character to look for in the string.
-     * @return true if the character is found in the string, false otherwise.
+     * Holds a dictionary together with the letter masks of its words.
      */
-    private boolean lettersContainCharacter(String letters, char character) {
-        for (int i = 0; i < letters.length(); i++) {
-            char ch = letters.charAt(i);
-            if (ch == character)
-                return true;
-        }
+    private static final class MaskCache {
+        private final List<String> words;
+        private final int[] masks;
 
-        return false;
+        private MaskCache(List<String> words, int[] masks) {
+            this.words = words;
+            this.masks = masks;
+        }
     }
 }
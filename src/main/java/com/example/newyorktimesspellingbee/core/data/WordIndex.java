@@ -0,0 +1,293 @@
+package com.example.newyorktimesspellingbee.core.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * WordIndex groups the words of a dictionary by their letter mask.
+ * Every word made of a set of seven letters belongs to one of the 2^7 subsets of that set,
+ * so the words of any game can be collected with at most 128 lookups instead of a dictionary scan.
+ * The words are kept in a WordArena and the groups are ranges of one array of word ids sorted by letter mask,
+ * so the index holds no String and no boxed key.
+ * The index is built once when the dictionary is loaded and is never modified afterwards.
+ * A changed dictionary is applied with update(), which returns a new index and leaves this one intact.
+ */
+public class WordIndex {
+    private final List<String> words;               // The dictionary the index was built from.
+    private final WordArena arena;                  // The words of the dictionary, by id.
+    private final int[] groupedIds;                 // Ids of the distinct words, sorted by letter mask.
+    private final int[] bucketMasks;                // Sorted distinct letter masks of the words.
+    private final int[] bucketStarts;               // Start of every mask's ids in groupedIds, followed by their end.
+    private final int[] pangramMasks;               // Seven letter masks of the words.
+    private final BitSet indexed;                   // Ids of the words in groupedIds.
+    private volatile PangramCatalog pangramCatalog; // Seven letter sets of the words, built on first use.
+
+    /**
+     * Constructs a WordIndex from already grouped word ids.
+     *
+     * @param words The dictionary the index was built from.
+     * @param arena The words of the dictionary, by id.
+     * @param groupedIds The ids of the distinct words with English letters only, sorted by letter mask.
+     */
+    public WordIndex(List<String> words, WordArena arena, int[] groupedIds) {
+        this.words = words;
+        this.arena = arena;
+        this.groupedIds = groupedIds;
+
+        int bucketCount = 0;
+        for (int i = 0; i < groupedIds.length; i++) {
+            if (i == 0 || arena.getMask(groupedIds[i]) != arena.getMask(groupedIds[i - 1])) bucketCount++;
+        }
+
+        bucketMasks = new int[bucketCount];
+        bucketStarts = new int[bucketCount + 1];
+        int bucket = 0;
+        for (int i = 0; i < groupedIds.length; i++) {
+            if (i == 0 || arena.getMask(groupedIds[i]) != arena.getMask(groupedIds[i - 1])) {
+                bucketMasks[bucket] = arena.getMask(groupedIds[i]);
+                bucketStarts[bucket++] = i;
+            }
+        }
+        bucketStarts[bucketCount] = groupedIds.length;
+
+        pangramMasks = Arrays.stream(bucketMasks).filter(mask -> LetterMask.size(mask) == 7).toArray();
+
+        indexed = new BitSet(arena.size());
+        for (int id : groupedIds) indexed.set(id);
+    }
+
+    /**
+     * Builds an index for the given dictionary.
+     * Duplicate words and words containing non English letters are left out.
+     *
+     * @param words The list of words to index.
+     * @return A WordIndex for the words.
+     */
+    public static WordIndex of(List<String> words) {
+        WordArena arena = WordArena.of(words);
+
+        long[] keys = new long[arena.size()];
+        int count = 0;
+        int id = 0;
+        for (String word : words) {
+            int mask = arena.getMask(id);
+            if ((mask & LetterMask.INVALID) == 0 && arena.find(word) == id) {
+                keys[count++] = (long) mask << 32 | id;
+            }
+            id++;
+        }
+        Arrays.sort(keys, 0, count);
+
+        int[] groupedIds = new int[count];
+        for (int i = 0; i < count; i++) {
+            groupedIds[i] = (int) keys[i];
+        }
+
+        return new WordIndex(words, arena, groupedIds);
+    }
+
+    /**
+     * Builds an index for the words of an arena that holds no duplicate words, such as one built by WordArena.Builder.
+     * Words containing non English letters are left out.
+     *
+     * @param arena The arena of distinct words to index.
+     * @return A WordIndex for the words, whose dictionary is a list view of the arena.
+     */
+    public static WordIndex of(WordArena arena) {
+        long[] keys = new long[arena.size()];
+        int count = 0;
+        for (int id = 0; id < arena.size(); id++) {
+            int mask = arena.getMask(id);
+            if ((mask & LetterMask.INVALID) == 0) keys[count++] = (long) mask << 32 | id;
+        }
+        Arrays.sort(keys, 0, count);
+
+        int[] groupedIds = new int[count];
+        for (int i = 0; i < count; i++) {
+            groupedIds[i] = (int) keys[i];
+        }
+
+        return new WordIndex(arena.asList(), arena, groupedIds);
+    }
+
+    /**
+     * Builds an index for a changed version of the dictionary by applying only the added and removed words.
+     * Words that are still in the dictionary keep their ids, added words are appended to a copy of the arena,
+     * and only the pangram catalog entries whose letters can make a changed word are recounted.
+     * If removed words take up more than half of the arena, the index is rebuilt from scratch instead.
+     * This index is not modified, so games built from it are not affected.
+     *
+     * @param words The changed dictionary.
+     * @return A WordIndex for the changed dictionary.
+     */
+    public WordIndex update(List<String> words) {
+        BitSet present = new BitSet(arena.size());
+        List<Integer> revivedIds = new ArrayList<>();
+        Set<String> newWords = new LinkedHashSet<>();
+
+        for (String word : words) {
+            if ((LetterMask.of(word) & LetterMask.INVALID) != 0) continue;
+            int id = arena.find(word);
+            if (id < 0) {
+                newWords.add(word);
+            } else if (!present.get(id)) {
+                present.set(id);
+                if (!indexed.get(id)) revivedIds.add(id); // Removed before and added again
+            }
+        }
+
+        BitSet removed = (BitSet) indexed.clone();
+        removed.andNot(present);
+        int liveCount = groupedIds.length - removed.cardinality() + revivedIds.size() + newWords.size();
+        if (arena.size() + newWords.size() > 2 * liveCount) return of(words);
+
+        WordArena nextArena = arena.append(new ArrayList<>(newWords));
+        long[] addedKeys = new long[revivedIds.size() + newWords.size()];
+        int count = 0;
+        for (int id : revivedIds) addedKeys[count++] = (long) nextArena.getMask(id) << 32 | id;
+        for (int id = arena.size(); id < nextArena.size(); id++) addedKeys[count++] = (long) nextArena.getMask(id) << 32 | id;
+        Arrays.sort(addedKeys);
+
+        int[] nextIds = new int[liveCount];
+        int[] changedMasks = new int[removed.cardinality() + addedKeys.length];
+        int changed = 0;
+        int position = 0;
+        int added = 0;
+        for (int id : groupedIds) {
+            if (removed.get(id)) {
+                changedMasks[changed++] = arena.getMask(id);
+                continue;
+            }
+            long key = (long) arena.getMask(id) << 32 | id;
+            while (added < addedKeys.length && addedKeys[added] < key) nextIds[position++] = (int) addedKeys[added++];
+            nextIds[position++] = id;
+        }
+        while (added < addedKeys.length) nextIds[position++] = (int) addedKeys[added++];
+        for (long key : addedKeys) changedMasks[changed++] = (int) (key >>> 32);
+
+        WordIndex next = new WordIndex(words, nextArena, nextIds);
+        PangramCatalog catalog = pangramCatalog;
+        if (catalog != null) next.pangramCatalog = catalog.update(next, changedMasks);
+        return next;
+    }
+
+    /**
+     * Finds the bucket of the words whose letter mask is exactly the given mask.
+     *
+     * @param mask The letter mask to look up.
+     * @return The position of the bucket, or a negative number if no word has the mask.
+     */
+    public int findBucket(int mask) {
+        return Arrays.binarySearch(bucketMasks, mask);
+    }
+
+    /**
+     * Returns the first position of a bucket's word ids, see getGroupedId().
+     *
+     * @param bucket The position of the bucket.
+     * @return The first position, inclusive.
+     */
+    public int getBucketStart(int bucket) {
+        return bucketStarts[bucket];
+    }
+
+    /**
+     * Returns the last position of a bucket's word ids, see getGroupedId().
+     *
+     * @param bucket The position of the bucket.
+     * @return The last position, exclusive.
+     */
+    public int getBucketEnd(int bucket) {
+        return bucketStarts[bucket + 1];
+    }
+
+    /**
+     * Returns the word id at a position of the ids grouped by letter mask.
+     *
+     * @param position The position, between the start and end of a bucket.
+     * @return The id of the word in the arena.
+     */
+    public int getGroupedId(int position) {
+        return groupedIds[position];
+    }
+
+    /**
+     * Returns the words whose letter mask is exactly the given mask.
+     *
+     * @param mask The letter mask to look up.
+     * @return An unmodifiable list of words, empty if no word has the mask.
+     */
+    public List<String> getBucket(int mask) {
+        int bucket = findBucket(mask);
+        if (bucket < 0) return arena.asList(groupedIds, 0, 0);
+        return arena.asList(groupedIds, getBucketStart(bucket), getBucketEnd(bucket));
+    }
+
+    /**
+     * Returns the letter masks that have at least one word.
+     *
+     * @return A sorted array of letter masks.
+     */
+    public int[] getMasks() {
+        return bucketMasks.clone();
+    }
+
+    /**
+     * Returns the distinct letter masks with exactly seven letters, the letter sets of the pangrams.
+     *
+     * @return A sorted array of letter masks.
+     */
+    public int[] getPangramMasks() {
+        return pangramMasks.clone();
+    }
+
+    /**
+     * Returns the catalog of seven letter sets that have a pangram in this index.
+     * The catalog is computed on the first call and shared afterwards.
+     *
+     * @return The PangramCatalog of the index.
+     */
+    public PangramCatalog getPangramCatalog() {
+        PangramCatalog catalog = pangramCatalog;
+        if (catalog == null) {
+            synchronized (this) {
+                catalog = pangramCatalog;
+                if (catalog == null) {
+                    pangramCatalog = catalog = PangramCatalog.of(this);
+                }
+            }
+        }
+        return catalog;
+    }
+
+    /**
+     * Returns the arena holding the words of the dictionary.
+     *
+     * @return The WordArena of the index.
+     */
+    public WordArena getArena() {
+        return arena;
+    }
+
+    /**
+     * Returns the dictionary the index was built from.
+     *
+     * @return The list of words.
+     */
+    public List<String> getWords() {
+        return words;
+    }
+
+    /**
+     * Returns the number of distinct letter masks in the dictionary.
+     *
+     * @return The number of buckets.
+     */
+    public int getBucketCount() {
+        return bucketMasks.length;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.newyorktimesspellingbee.core.data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * WordNormalizer turns the lines of a word file into dictionary words: lines with less than 4 characters are skipped,
+ * the others are lowercased and the accented characters á, é, í, ó, ú and ñ are replaced by their basic Latin letters.
+ * Every reader of word files uses it, since data.bin and the checksum of the puzzle catalog depend on all of them
+ * producing the same words. The compileDictionary task of build.gradle runs before this class is compiled
+ * and applies the same rule, which WordNormalizerTest checks against data.bin.
+ */
+final class WordNormalizer {
+    private static final String ACCENTED = "áéíóúñ"; // Replaced by the letter at the same position of PLAIN.
+    private static final String PLAIN = "aeioun";
+
+    private WordNormalizer() {
+    }
+
+    /**
+     * Normalizes a line of a word file.
+     *
+     * @param line The line.
+     * @return The normalized word, or null if the line is shorter than 4 characters.
+     */
+    static String toWord(String line) {
+        if (line.length() <= 3) return null; // Filter out words with less than 4 characters
+
+        String word = line.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < ACCENTED.length(); i++) {
+            word = word.replace(ACCENTED.charAt(i), PLAIN.charAt(i));
+        }
+        return word;
+    }
+
+    /**
+     * Normalizes a line of a word file given as UTF-8 bytes, in a single pass over the bytes.
+     * ASCII letters are lowercased and the accented characters, in either case, are translated byte by byte.
+     * Lines with other non ASCII characters fall back to toWord(String).
+     *
+     * @param line The bytes of the line, UTF-8 encoded.
+     * @param length The number of bytes of the line.
+     * @param word The buffer the normalized bytes are written to, at least length bytes long.
+     * @return The normalized word, or null if the line is shorter than 4 characters.
+     */
+    static String toWord(byte[] line, int length, byte[] word) {
+        int out = 0;
+        for (int i = 0; i < length; i++) {
+            byte b = line[i];
+            if (b >= 'A' && b <= 'Z') {
+                word[out++] = (byte) (b + ('a' - 'A'));
+            } else if (b >= 0) {
+                word[out++] = b;
+            } else {
+                byte replacement = i + 1 < length && b == (byte) 0xC3 ? replaceAccent(line[i + 1]) : 0;
+                if (replacement == 0) return toWord(new String(line, 0, length, StandardCharsets.UTF_8));
+                word[out++] = replacement;
+                i++;
+            }
+        }
+
+        if (out <= 3) return null; // Filter out words with less than 4 characters
+        return new String(word, 0, out, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Translates the second byte of a two byte UTF-8 sequence starting with 0xC3 into its basic Latin letter.
+     *
+     * @param b The second byte of the sequence.
+     * @return The lowercase basic Latin letter, or 0 if the character is not one of the handled accents.
+     */
+    private static byte replaceAccent(byte b) {
+        switch (b & 0xFF) {
+            case 0xA1: case 0x81: return 'a'; // á Á
+            case 0xA9: case 0x89: return 'e'; // é É
+            case 0xAD: case 0x8D: return 'i'; // í Í
+            case 0xB3: case 0x93: return 'o'; // ó Ó
+            case 0xBA: case 0x9A: return 'u'; // ú Ú
+            case 0xB1: case 0x91: return 'n'; // ñ Ñ
+            default: return 0;
+        }
+    }
+}
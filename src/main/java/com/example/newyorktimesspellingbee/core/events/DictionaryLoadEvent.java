@@ -0,0 +1,34 @@
+package com.example.newyorktimesspellingbee.core.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event of a dictionary read by a DataReader. The event duration is the load time.
+ */
+@Name("com.example.newyorktimesspellingbee.DictionaryLoad")
+@Label("Dictionary Load")
+@Category({"Spelling Bee", "Dictionary"})
+public class DictionaryLoadEvent extends jdk.jfr.Event {
+    @Label("Reader")
+    private String reader;
+
+    @Label("Source")
+    private String source;
+
+    @Label("Word Count")
+    private int wordCount;
+
+    public void setReader(String reader) {
+        this.reader = reader;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+
+    public void setWordCount(int wordCount) {
+        this.wordCount = wordCount;
+    }
+}
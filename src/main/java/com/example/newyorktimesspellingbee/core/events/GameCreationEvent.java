@@ -0,0 +1,66 @@
+package com.example.newyorktimesspellingbee.core.events;
+
+import com.example.newyorktimesspellingbee.core.data.FilteredData;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event of a single game creation attempt: the letters tried, how long filtering took,
+ * the words and points found and why the game was rejected, if it was.
+ */
+@Name("com.example.newyorktimesspellingbee.GameCreation")
+@Label("Game Creation")
+@Category({"Spelling Bee", "Game Creation"})
+@Description("A single attempt to create a game from a set of letters")
+@StackTrace(false)
+public class GameCreationEvent extends jdk.jfr.Event {
+    @Label("Letters")
+    private String letters;
+
+    @Label("Accepted")
+    private boolean accepted;
+
+    @Label("Rejection Reason")
+    @Description("Rejection of the game, or null if it was accepted")
+    private String rejectionReason;
+
+    @Label("Filter Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long filterDuration;
+
+    @Label("Word Count")
+    private int wordCount;
+
+    @Label("Total Point")
+    private int totalPoint;
+
+    @Label("Truncated")
+    @Description("Whether filtering stopped early because a limit was exceeded")
+    private boolean truncated;
+
+    /**
+     * Records the result of filtering.
+     *
+     * @param filteredData The filtered data of the attempt.
+     * @param filterNanos The time filtering took, in nanoseconds.
+     */
+    public void setFiltered(FilteredData filteredData, long filterNanos) {
+        letters = filteredData.getLetters();
+        wordCount = filteredData.getWordCount();
+        totalPoint = filteredData.getTotalPoint();
+        truncated = filteredData.isTruncated();
+        filterDuration = filterNanos;
+    }
+
+    public void setAccepted(boolean accepted) {
+        this.accepted = accepted;
+    }
+
+    public void setRejectionReason(String rejectionReason) {
+        this.rejectionReason = rejectionReason;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.newyorktimesspellingbee.core.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a search for a game that retries rejected attempts,
+ * such as a budgeted search or a game pool refill. Each attempt is recorded as a GameCreationEvent.
+ */
+@Name("com.example.newyorktimesspellingbee.GameGeneration")
+@Label("Game Generation")
+@Category({"Spelling Bee", "Game Creation"})
+@Description("A search for a game over several creation attempts")
+@StackTrace(false)
+public class GameGenerationEvent extends jdk.jfr.Event {
+    @Label("Attempts")
+    private int attempts;
+
+    @Label("Outcome")
+    @Description("accepted, fallback, exhausted or cancelled")
+    private String outcome;
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public void setOutcome(String outcome) {
+        this.outcome = outcome;
+    }
+}
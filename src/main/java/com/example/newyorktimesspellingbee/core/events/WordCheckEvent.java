@@ -0,0 +1,30 @@
+package com.example.newyorktimesspellingbee.core.events;
+
+import com.example.newyorktimesspellingbee.core.results.Verdict;
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a word checked by a player. The event duration is the latency of the check.
+ */
+@Name("com.example.newyorktimesspellingbee.WordCheck")
+@Label("Word Check")
+@Category({"Spelling Bee", "Game"})
+@StackTrace(false)
+public class WordCheckEvent extends jdk.jfr.Event {
+    @Label("Verdict")
+    private String verdict;
+
+    @Label("Word Length")
+    private int wordLength;
+
+    public void setVerdict(Verdict verdict) {
+        this.verdict = verdict.name();
+    }
+
+    public void setWordLength(int wordLength) {
+        this.wordLength = wordLength;
+    }
+}
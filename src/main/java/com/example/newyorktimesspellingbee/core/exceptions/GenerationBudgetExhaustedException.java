@@ -0,0 +1,7 @@
+package com.example.newyorktimesspellingbee.core.exceptions;
+
+public class GenerationBudgetExhaustedException extends Exception{
+    public GenerationBudgetExhaustedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.newyorktimesspellingbee.core.exceptions;
+
+public class GenerationCancelledException extends Exception{
+    public GenerationCancelledException(String message) {
+        super(message);
+    }
+}
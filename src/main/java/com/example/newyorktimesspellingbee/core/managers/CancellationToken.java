@@ -0,0 +1,25 @@
+package com.example.newyorktimesspellingbee.core.managers;
+
+/**
+ * CancellationToken lets the caller of a long-running operation ask it to stop.
+ * The operation checks the token between steps and ends as soon as it sees the cancellation.
+ */
+public class CancellationToken {
+    private volatile boolean cancelled;
+
+    /**
+     * Asks the operation holding this token to stop.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Checks if the operation holding this token was asked to stop.
+     *
+     * @return true if cancel() was called.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.newyorktimesspellingbee.core.managers;
+
+import com.example.newyorktimesspellingbee.core.data.LetterMask;
+import com.example.newyorktimesspellingbee.core.data.PangramCatalog;
+import com.example.newyorktimesspellingbee.core.results.Rejection;
+
+/**
+ * CandidateCache remembers which random candidates were accepted and which were rejected and why.
+ * A candidate is a seven letter set of a PangramCatalog together with one of its letters as center letter.
+ * Whether a candidate is accepted depends only on the dictionary, so a candidate never has to be checked again.
+ * Every candidate takes one byte. The cache belongs to one catalog: a changed dictionary has a new catalog
+ * and starts with an empty cache.
+ */
+final class CandidateCache {
+    private final byte ACCEPTED = -1;
+    private final PangramCatalog catalog;
+    private final byte[] outcomes; // ACCEPTED, or ordinal + 1 of the rejection of every candidate, 0 if it is not known.
+
+    /**
+     * Constructs an empty CandidateCache for the candidates of a catalog.
+     *
+     * @param catalog The catalog of seven letter sets.
+     */
+    CandidateCache(PangramCatalog catalog) {
+        this.catalog = catalog;
+        outcomes = new byte[catalog.size() * 7];
+    }
+
+    PangramCatalog getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * Checks if a candidate is known to be accepted.
+     *
+     * @param i The position of the seven letter set in the catalog.
+     * @param centerLetter The center letter.
+     * @return true if the candidate was accepted before.
+     */
+    boolean isAccepted(int i, char centerLetter) {
+        return outcomes[position(i, centerLetter)] == ACCEPTED;
+    }
+
+    /**
+     * Checks if the outcome of a seven letter set is known for every one of its letters as center letter.
+     *
+     * @param i The position of the seven letter set in the catalog.
+     * @return true if all candidates of the set were recorded.
+     */
+    boolean isKnown(int i) {
+        for (int j = i * 7; j < i * 7 + 7; j++) {
+            if (outcomes[j] == 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Records the outcome of a candidate. Candidates may be recorded by several threads at once;
+     * a lost write only means the candidate is checked once more.
+     *
+     * @param i The position of the seven letter set in the catalog.
+     * @param centerLetter The center letter.
+     * @param rejection The rejection of the candidate, or null if it was accepted.
+     */
+    void record(int i, char centerLetter, Rejection rejection) {
+        outcomes[position(i, centerLetter)] = rejection == null ? ACCEPTED : (byte) (rejection.ordinal() + 1);
+    }
+
+    /**
+     * Returns the number of candidates known to be rejected.
+     *
+     * @return The number of rejected candidates.
+     */
+    int size() {
+        int size = 0;
+        for (byte outcome : outcomes) {
+            if (outcome > 0) size++;
+        }
+        return size;
+    }
+
+    /**
+     * Finds the byte of a candidate: the seven bytes of a set are ordered like the letters of its mask.
+     *
+     * @param i The position of the seven letter set in the catalog.
+     * @param centerLetter The center letter.
+     * @return The position of the candidate in outcomes.
+     */
+    private int position(int i, char centerLetter) {
+        int mask = catalog.getMask(i);
+        return i * 7 + LetterMask.size(mask & (LetterMask.bit(centerLetter) - 1));
+    }
+}
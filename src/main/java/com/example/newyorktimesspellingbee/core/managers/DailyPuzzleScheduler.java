@@ -0,0 +1,215 @@
+package com.example.newyorktimesspellingbee.core.managers;
+
+import com.example.newyorktimesspellingbee.core.data.DataFilter;
+import com.example.newyorktimesspellingbee.core.data.DataReader;
+import com.example.newyorktimesspellingbee.core.data.GameData;
+import com.example.newyorktimesspellingbee.core.data.PuzzleCatalog;
+import com.example.newyorktimesspellingbee.core.exceptions.*;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+/**
+ * DailyPuzzleScheduler assigns one puzzle to every day, the same on every run with the same seed and dictionary.
+ * The days are scheduled in order from the first day: the puzzle of a day is drawn from the puzzle catalog with
+ * a random generator seeded from the seed and the day, skipping letter sets that an earlier day already used.
+ * The used sets are kept in a bitset with one bit per distinct set of the catalog, and are all released
+ * once every set was used. Picking the letters is cheap and done in order; the games of the days are created
+ * afterwards, in parallel when many days are scheduled at once, and cached by date.
+ * Only days up to MAX_DAYS_AHEAD after today can be scheduled, so a request for a far future date cannot make
+ * the scheduler pick and keep the letters of every day up to it.
+ */
+public class DailyPuzzleScheduler {
+    public static final int MAX_DAYS_AHEAD = 365;              // Latest day that can be scheduled, in days after today.
+    private static final long DAY_GAMMA = 0x9E3779B97F4A7C15L; // Spreads the seeds of consecutive days.
+
+    private final GameCreatorService creatorService;
+    private final PuzzleCatalog puzzleCatalog;
+    private final long seed;
+    private final LocalDate firstDay;
+    private final int[] setMasks;                 // Sorted distinct letter masks of the catalog's puzzles.
+    private final BitSet usedSets;                // Sets used in the current cycle, by position in setMasks.
+    private int usedSetCount = 0;
+    private final List<String> scheduledLetters = new ArrayList<>(); // Letters of every scheduled day, from the first day.
+    private final Map<LocalDate, GameData> games = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a DailyPuzzleScheduler.
+     *
+     * @param dataFilter An instance of DataFilter for filtering words.
+     * @param dataReader An instance of DataReader for reading word data.
+     * @param puzzleCatalog The catalog of valid puzzles of the dictionary, or null to generate it.
+     * @param seed The seed of the schedule.
+     * @param firstDay The first day of the schedule.
+     */
+    public DailyPuzzleScheduler(DataFilter dataFilter, DataReader dataReader, PuzzleCatalog puzzleCatalog, long seed, LocalDate firstDay) {
+        this.puzzleCatalog = puzzleCatalog != null ? puzzleCatalog : new PuzzleCatalogGenerator(dataReader).generate();
+        this.creatorService = new GameCreatorManager(dataFilter, dataReader, this.puzzleCatalog, new Random(seed));
+        this.seed = seed;
+        this.firstDay = firstDay;
+
+        int[] masks = new int[this.puzzleCatalog.size()];
+        Arrays.setAll(masks, this.puzzleCatalog::getMask);
+        setMasks = Arrays.stream(masks).sorted().distinct().toArray();
+        usedSets = new BitSet(setMasks.length);
+    }
+
+    /**
+     * Returns the letters of a day's puzzle, scheduling the days before it if they were not scheduled yet.
+     *
+     * @param date The day.
+     * @return The letters of the puzzle, with the center letter in the middle.
+     * @throws IllegalArgumentException If the day is before the first day of the schedule or more than
+     *                                  MAX_DAYS_AHEAD days after today.
+     */
+    public synchronized String getLetters(LocalDate date) {
+        int day = dayOf(date);
+        while (scheduledLetters.size() <= day) {
+            scheduledLetters.add(pickLetters(scheduledLetters.size()));
+        }
+        return scheduledLetters.get(day);
+    }
+
+    /**
+     * Returns the game of a day, creating it on the first call.
+     *
+     * @param date The day.
+     * @return The GameData of the day's puzzle.
+     * @throws IllegalArgumentException If the day is before the first day of the schedule or more than
+     *                                  MAX_DAYS_AHEAD days after today.
+     * @throws PangramNotFoundException If no pangram words are found.
+     * @throws IllegalWordCountException If the word count is not within the acceptable range.
+     * @throws IllegalPointRangeException If the total points are not within the acceptable range.
+     */
+    public GameData getGame(LocalDate date) throws PangramNotFoundException, IllegalWordCountException, IllegalPointRangeException {
+        GameData data = games.get(date);
+        if (data != null) return data;
+
+        data = create(getLetters(date));
+        GameData shared = games.putIfAbsent(date, data);
+        return shared != null ? shared : data;
+    }
+
+    /**
+     * Creates the games of consecutive days at once. The letters are picked in order first and the games are
+     * then created in parallel on the common ForkJoinPool.
+     *
+     * @param from The first day to create.
+     * @param days The number of days to create.
+     * @return The GameData of every day, in order.
+     * @throws IllegalArgumentException If a day is before the first day of the schedule or more than
+     *                                  MAX_DAYS_AHEAD days after today.
+     * @throws PangramNotFoundException If no pangram words are found for a day.
+     * @throws IllegalWordCountException If the word count of a day is not within the acceptable range.
+     * @throws IllegalPointRangeException If the total points of a day are not within the acceptable range.
+     */
+    public Map<LocalDate, GameData> precompute(LocalDate from, int days) throws PangramNotFoundException, IllegalWordCountException, IllegalPointRangeException {
+        if (days <= 0) return new LinkedHashMap<>();
+        getLetters(from.plusDays(days - 1));
+
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        IntStream.range(0, days).parallel().forEach(day -> {
+            try {
+                getGame(from.plusDays(day));
+            } catch (PangramNotFoundException | IllegalWordCountException | IllegalPointRangeException e) {
+                failure.compareAndSet(null, e);
+            }
+        });
+
+        Exception exception = failure.get();
+        if (exception instanceof PangramNotFoundException) throw (PangramNotFoundException) exception;
+        if (exception instanceof IllegalWordCountException) throw (IllegalWordCountException) exception;
+        if (exception instanceof IllegalPointRangeException) throw (IllegalPointRangeException) exception;
+
+        Map<LocalDate, GameData> schedule = new LinkedHashMap<>();
+        for (int day = 0; day < days; day++) {
+            schedule.put(from.plusDays(day), games.get(from.plusDays(day)));
+        }
+        return schedule;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public LocalDate getFirstDay() {
+        return firstDay;
+    }
+
+    /**
+     * Returns the number of games created so far.
+     *
+     * @return The number of cached games.
+     */
+    public int getCachedCount() {
+        return games.size();
+    }
+
+    /**
+     * Picks the puzzle of the next day: random puzzles of the catalog are drawn until one has letters
+     * that were not used in the current cycle, and its other letters are mixed around the center letter.
+     *
+     * @param day The number of the day since the first day.
+     * @return The letters of the day's puzzle, with the center letter in the middle.
+     */
+    private String pickLetters(int day) {
+        if (usedSetCount == setMasks.length) {
+            usedSets.clear();
+            usedSetCount = 0;
+        }
+
+        Random random = new Random(seed + day * DAY_GAMMA);
+        while (true) {
+            int i = random.nextInt(puzzleCatalog.size());
+            int set = Arrays.binarySearch(setMasks, puzzleCatalog.getMask(i));
+            if (!usedSets.get(set)) {
+                usedSets.set(set);
+                usedSetCount++;
+                return GameCreatorManager.arrangeLetters(puzzleCatalog.getMask(i), puzzleCatalog.getCenterLetter(i), random);
+            }
+        }
+    }
+
+    /**
+     * Creates the game of scheduled letters. The letters come from the puzzle catalog, so they are always valid.
+     *
+     * @param letters The letters of the puzzle.
+     * @return The GameData of the puzzle.
+     * @throws PangramNotFoundException If no pangram words are found.
+     * @throws IllegalWordCountException If the word count is not within the acceptable range.
+     * @throws IllegalPointRangeException If the total points are not within the acceptable range.
+     */
+    private GameData create(String letters) throws PangramNotFoundException, IllegalWordCountException, IllegalPointRangeException {
+        try {
+            return creatorService.create(letters);
+        } catch (IllegalLettersLengthException | NotUniqueLettersException | IllegalLetterException e) {
+            throw new IllegalStateException("Invalid letters in the puzzle catalog: " + letters, e);
+        }
+    }
+
+    /**
+     * Returns the number of a day since the first day of the schedule.
+     *
+     * @param date The day.
+     * @return The number of the day, 0 for the first day.
+     * @throws IllegalArgumentException If the day is before the first day of the schedule or more than
+     *                                  MAX_DAYS_AHEAD days after today.
+     */
+    private int dayOf(LocalDate date) {
+        long day = ChronoUnit.DAYS.between(firstDay, date);
+        if (day < 0 || date.isAfter(LocalDate.now().plusDays(MAX_DAYS_AHEAD))) {
+            throw new IllegalArgumentException("No puzzle scheduled for " + date);
+        }
+        return (int) day;
+    }
+}
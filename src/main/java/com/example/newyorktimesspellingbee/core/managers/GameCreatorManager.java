@@ -5,11 +5,23 @@ import com.example.newyorktimesspellingbee.core.data.DataFilter;
 import com.example.newyorktimesspellingbee.core.data.DataReader;
 import com.example.newyorktimesspellingbee.core.data.FilteredData;
 import com.example.newyorktimesspellingbee.core.data.GameData;
+import com.example.newyorktimesspellingbee.core.data.LetterMask;
+import com.example.newyorktimesspellingbee.core.data.PangramCatalog;
+import com.example.newyorktimesspellingbee.core.data.PuzzleCatalog;
+import com.example.newyorktimesspellingbee.core.data.WordIndex;
+import com.example.newyorktimesspellingbee.core.events.GameCreationEvent;
+import com.example.newyorktimesspellingbee.core.events.GameGenerationEvent;
 import com.example.newyorktimesspellingbee.core.exceptions.*;
+import com.example.newyorktimesspellingbee.core.results.GenerationStatistics;
+import com.example.newyorktimesspellingbee.core.results.Rejection;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * GameCreatorManager is a class that implements the GameCreatorService interface.
@@ -20,9 +32,24 @@ public class GameCreatorManager implements GameCreatorService{
 
     private final DataReader dataReader;
     private final DataFilter dataFilter;
+    private volatile PuzzleCatalog puzzleCatalog;  // Dropped once the index it was checked against is replaced.
+    private final WordIndex catalogIndex;           // Index the puzzle catalog was checked against.
     private final List<String> selectedWords;
     private final Random r;
     private final String ENGLISH_LETTERS = "abcdefghijklmnopqrstuvwxyz";
+    private static final int MIN_WORD_COUNT = 20;
+    private static final int MAX_WORD_COUNT = 80;
+    private static final int MIN_TOTAL_POINT = 100;
+    private static final int MAX_TOTAL_POINT = 400;
+    private final int MAX_SKIPPED_CANDIDATES = 64; // Known rejected sets skipped before one is used anyway.
+    private final int TRUNCATED_DISTANCE = Integer.MAX_VALUE - 1; // Ranks truncated candidates after all complete ones.
+
+    private final LongAdder attemptCount = new LongAdder();  // Random candidates filtered.
+    private final LongAdder acceptedCount = new LongAdder(); // Random candidates accepted.
+    private final LongAdder skippedCount = new LongAdder();  // Known rejected candidates drawn and skipped.
+    private final LongAdder sweptCount = new LongAdder();    // Seven letter sets swept for acceptable center letters.
+    private final LongAdder[] rejectionCounts;               // Random candidates rejected, by Rejection ordinal.
+    private volatile CandidateCache candidateCache;          // Outcomes of the candidates of the current dictionary.
 
     /**
      * Constructs a GameCreatorManager with specified data filter and data reader.
@@ -31,11 +58,43 @@ public class GameCreatorManager implements GameCreatorService{
      * @param dataReader An instance of DataReader for reading word data.
      */
     public GameCreatorManager(DataFilter dataFilter, DataReader dataReader) {
+        this(dataFilter, dataReader, null);
+    }
+
+    /**
+     * Constructs a GameCreatorManager that picks random games from a catalog of valid puzzles.
+     *
+     * @param dataFilter An instance of DataFilter for filtering words.
+     * @param dataReader An instance of DataReader for reading word data.
+     * @param puzzleCatalog The catalog of valid puzzles of the dictionary, or null to search for a game on every call.
+     */
+    public GameCreatorManager(DataFilter dataFilter, DataReader dataReader, PuzzleCatalog puzzleCatalog) {
+        this(dataFilter, dataReader, puzzleCatalog, new Random());
+    }
+
+    /**
+     * Constructs a GameCreatorManager that picks random games with the given random generator.
+     * With a seeded generator and the same dictionary, create() returns the same games in the same order on every run.
+     *
+     * @param dataFilter An instance of DataFilter for filtering words.
+     * @param dataReader An instance of DataReader for reading word data.
+     * @param puzzleCatalog The catalog of valid puzzles of the dictionary, or null to search for a game on every call.
+     *                      It is used until the dictionary reader returns another index than the current one.
+     * @param random The random generator used to pick the letters of random games.
+     */
+    public GameCreatorManager(DataFilter dataFilter, DataReader dataReader, PuzzleCatalog puzzleCatalog, Random random) {
         this.dataFilter = dataFilter;
         this.dataReader = dataReader;
+        this.puzzleCatalog = puzzleCatalog;
+        catalogIndex = puzzleCatalog != null ? dataReader.readIndex() : null;
 
         selectedWords = new ArrayList<>();
-        r = new Random();
+        r = random;
+
+        rejectionCounts = new LongAdder[Rejection.values().length];
+        for (int i = 0; i < rejectionCounts.length; i++) {
+            rejectionCounts[i] = new LongAdder();
+        }
     }
 
     /**
@@ -56,21 +115,14 @@ public class GameCreatorManager implements GameCreatorService{
 
         lettersCheck(letters);
 
-        FilteredData filteredData = filterWords(letters);
-
-        firstStatusChecks(filteredData);
-
-        List<String> filteredWords = filteredData.getWords();
-        List<String> pangramWords = filteredData.getPangramWords();
-
-
-        secondStatusChecks(filteredWords, pangramWords);
-
-        return new GameData(filteredWords, pangramWords, letters);
+        return createFrom(letters, false);
 
     }
     /**
      * Creates game data without provided letters. Letters are chosen internally.
+     * If a puzzle catalog is available the letters are taken from a random puzzle of the catalog,
+     * which always meets the criteria. Otherwise a random seven letter set is swept for a center letter that meets
+     * the criteria, see randomCandidateLetters().
      * Throws exceptions if the data does not meet specific criteria.
      *
      * @return GameData object containing the filtered game data.
@@ -81,81 +133,413 @@ public class GameCreatorManager implements GameCreatorService{
 
     public GameData create() throws PangramNotFoundException, IllegalWordCountException, IllegalPointRangeException {
 
-        FilteredData filteredData = filterWords();
+        if (!hasCandidates()) throw new PangramNotFoundException(Messages.PANGRAM_NOT_FOUND);
+        return createFrom(randomLetters(), true);
+    }
+
+    /**
+     * Returns the statistics of the random candidates filtered so far.
+     *
+     * @return GenerationStatistics of this creator.
+     */
+    @Override
+    public GenerationStatistics getStatistics() {
+        long[] rejections = new long[rejectionCounts.length];
+        for (int i = 0; i < rejections.length; i++) {
+            rejections[i] = rejectionCounts[i].sum();
+        }
+        CandidateCache cache = candidateCache;
+        return new GenerationStatistics(attemptCount.sum(), acceptedCount.sum(), rejections, skippedCount.sum(),
+                sweptCount.sum(), cache == null ? 0 : cache.size());
+    }
+
+    /**
+     * Filters and checks one candidate game.
+     *
+     * @param letters The letters of the game.
+     * @param random Whether the letters were chosen at random.
+     * @return GameData object containing the filtered game data.
+     * @throws PangramNotFoundException If no pangram words are found.
+     * @throws IllegalWordCountException If the word count is not within the acceptable range.
+     * @throws IllegalPointRangeException If the total points are not within the acceptable range.
+     */
+    private GameData createFrom(String letters, boolean random) throws PangramNotFoundException, IllegalWordCountException, IllegalPointRangeException {
+        FilteredData filteredData = filterCandidate(letters, random);
 
         firstStatusChecks(filteredData);
-        String letters = filteredData.getLetters();
-        List<String> filteredWords = filteredData.getWords();
-        List<String> pangramWords = filteredData.getPangramWords();
+        secondStatusChecks(filteredData);
 
-        secondStatusChecks(filteredWords, pangramWords);
+        return new GameData(filteredData.getArena(), filteredData.getWordIds(), filteredData.getPangramIds(), filteredData.getLetters());
+    }
 
-        return new GameData(filteredWords, pangramWords, letters);
+    /**
+     * Filters the words of one candidate and records the attempt as a GameCreationEvent.
+     * The outcome of random candidates is counted in the statistics and remembered in the candidate cache.
+     *
+     * @param letters The letters of the candidate.
+     * @param random Whether the letters were chosen at random.
+     * @return FilteredData of the candidate.
+     */
+    private FilteredData filterCandidate(String letters, boolean random) {
+        GameCreationEvent event = new GameCreationEvent();
+        event.begin();
+        long filterStart = System.nanoTime();
+        FilteredData filteredData = filterWords(letters);
+        event.setFiltered(filteredData, System.nanoTime() - filterStart);
+
+        Rejection rejection = rejectionOf(filteredData);
+        event.setAccepted(rejection == null);
+        event.setRejectionReason(rejection == null ? null : rejection.name());
+        event.commit();
+
+        if (random) record(letters, rejection);
+        return filteredData;
+    }
+
+    /**
+     * Counts the outcome of a random candidate and remembers it in the candidate cache.
+     *
+     * @param letters The letters of the candidate.
+     * @param rejection The rejection of the candidate, or null if it was accepted.
+     */
+    private void record(String letters, Rejection rejection) {
+        attemptCount.increment();
+        if (rejection == null) {
+            acceptedCount.increment();
+        } else {
+            rejectionCounts[rejection.ordinal()].increment();
+        }
+
+        CandidateCache cache = candidateCache();
+        int i = cache.getCatalog().indexOf(LetterMask.of(letters));
+        if (i >= 0) cache.record(i, letters.charAt(letters.length() / 2), rejection);
     }
 
 
     /**
-     * Checks if the total points of the filtered words are within an acceptable range.
+     * Searches for game data without provided letters on the common ForkJoinPool, within a budget.
      *
-     * @param totalPoint The total points of the words.
-     * @return true if the total points are between 100 and 400, inclusive.
+     * @param budget The maximum number of attempts and time to spend.
+     * @param token The token used to cancel the search.
+     * @return A future completed with the game data, see GameCreatorService.
      */
-    private boolean totalPointAcceptable(int totalPoint) {
-        return totalPoint >= 100 && totalPoint <= 400;
+    @Override
+    public CompletableFuture<GameData> create(GenerationBudget budget, CancellationToken token) {
+        CompletableFuture<GameData> future = new CompletableFuture<>();
+        future.whenComplete((data, error) -> {
+            if (future.isCancelled()) token.cancel();
+        });
+
+        ForkJoinPool.commonPool().execute(() -> {
+            try {
+                future.complete(generate(budget, token));
+            } catch (Throwable e) { // Any failure must complete the future, or the caller waits forever
+                future.completeExceptionally(e);
+            }
+        });
+
+        return future;
     }
 
+    /**
+     * Tries random candidates until one meets all criteria or the budget is spent.
+     * The rejected candidate closest to the acceptable word count and point ranges is kept as a fallback.
+     * Truncated candidates stopped filtering at the limits, so their distance is only a lower bound and their
+     * word list is incomplete: they are kept only if no complete candidate was found, and filtered again
+     * without limits before the game is built.
+     * The search is recorded as a GameGenerationEvent and every candidate as a GameCreationEvent.
+     *
+     * @param budget The maximum number of attempts and time to spend.
+     * @param token The token used to cancel the search.
+     * @return GameData of an accepted game, or of the best rejected candidate if the budget is spent.
+     * @throws GenerationBudgetExhaustedException If the budget is spent and no candidate had a pangram,
+     *                                            or the dictionary has no seven letter set at all.
+     * @throws GenerationCancelledException If the token was cancelled.
+     */
+    private GameData generate(GenerationBudget budget, CancellationToken token) throws GenerationBudgetExhaustedException, GenerationCancelledException {
+        if (!hasCandidates()) throw new GenerationBudgetExhaustedException(Messages.GAME_NOT_CREATED);
+        long deadline = System.nanoTime() + budget.getTimeout().toNanos();
+        FilteredData best = null;
+        int bestDistance = Integer.MAX_VALUE;
+        int attempts = 0;
+
+        GameGenerationEvent generation = new GameGenerationEvent();
+        generation.begin();
+        try {
+            for (int attempt = 0; attempt < budget.getMaxAttempts() && System.nanoTime() - deadline < 0; attempt++) {
+                if (token.isCancelled()) {
+                    generation.setOutcome("cancelled");
+                    throw new GenerationCancelledException(Messages.GENERATION_CANCELLED);
+                }
+
+                attempts++;
+                FilteredData filteredData = filterCandidate(randomLetters(), true);
+                if (filteredData.getPangramCount() == 0) continue;
+
+                int distance = filteredData.isTruncated() ? TRUNCATED_DISTANCE : distanceFromAcceptable(filteredData);
+                if (distance < bestDistance) {
+                    best = filteredData;
+                    bestDistance = distance;
+                }
+                if (distance == 0) break;
+            }
+
+            if (token.isCancelled()) {
+                generation.setOutcome("cancelled");
+                throw new GenerationCancelledException(Messages.GENERATION_CANCELLED);
+            }
+            if (best == null) {
+                generation.setOutcome("exhausted");
+                throw new GenerationBudgetExhaustedException(Messages.GAME_NOT_CREATED);
+            }
+            generation.setOutcome(bestDistance == 0 ? "accepted" : "fallback");
+            if (best.isTruncated()) best = dataFilter.filter(readIndex(), best.getLetters());
+            return new GameData(best.getArena(), best.getWordIds(), best.getPangramIds(), best.getLetters());
+        } finally {
+            generation.setAttempts(attempts);
+            generation.commit();
+        }
+    }
 
     /**
-     * Checks if the word count is within an acceptable range.
+     * Finds the check a candidate fails, the same way firstStatusChecks() and secondStatusChecks() decide,
+     * without throwing an exception.
      *
-     * @param wordCount The number of words.
-     * @return true if the word count is between 20 and 80, inclusive.
+     * @param filteredData The filtered data of the candidate.
+     * @return The Rejection matching the exception the checks would throw, or null if the candidate is accepted.
      */
-    private boolean wordCountAcceptable(int wordCount) {
-        return wordCount >= 20 && wordCount <= 80;
+    private Rejection rejectionOf(FilteredData filteredData) {
+        int wordCount = filteredData.getWordCount();
+        if (filteredData.getPangramCount() == 0)
+            return Rejection.PANGRAM_NOT_FOUND;
+        if (wordCount > MAX_WORD_COUNT || (!filteredData.isTruncated() && !wordCountAcceptable(wordCount)))
+            return Rejection.ILLEGAL_WORD_COUNT;
+        if (filteredData.isTruncated() || !totalPointAcceptable(filteredData.getTotalPoint()))
+            return Rejection.ILLEGAL_POINT_RANGE;
+        return null;
     }
 
     /**
-     * Determines if a word is a pangram based on the list of known pangram words.
+     * Measures how far a candidate is from the acceptable word count and point ranges.
      *
-     * @param pangramWords A list of known pangram words.
-     * @param word The word to check.
-     * @return true if the word is a pangram, false otherwise.
+     * @param filteredData The filtered data of the candidate.
+     * @return 0 if both are acceptable, otherwise the sum of the word count and point distances.
      */
-    private boolean isPangram(List<String> pangramWords, String word) {
-        return pangramWords.contains(word);
+    private int distanceFromAcceptable(FilteredData filteredData) {
+        int wordCount = filteredData.getWordCount();
+        int totalPoint = filteredData.getTotalPoint();
+
+        int distance = 0;
+        if (!wordCountAcceptable(wordCount)) {
+            distance += wordCount < MIN_WORD_COUNT ? MIN_WORD_COUNT - wordCount : wordCount - MAX_WORD_COUNT;
+        }
+        if (!totalPointAcceptable(totalPoint)) {
+            distance += totalPoint < MIN_TOTAL_POINT ? MIN_TOTAL_POINT - totalPoint : totalPoint - MAX_TOTAL_POINT;
+        }
+        return distance;
     }
 
     /**
-     * Calculates the point value of a word based on whether it is a pangram.
+     * Checks if a puzzle catalog with at least one puzzle is available.
      *
-     * @param pangramWords A list of known pangram words.
-     * @param word The word for which to calculate the points.
-     * @return The point value of the word.
+     * @return true if random games can be taken from the catalog.
      */
-    private int getWordPoint(List<String> pangramWords, String word) {
-        int sum = 0;
-        if (!isPangram(pangramWords, word)) {
-            sum += word.length() - 3;
-        } else {
-            sum += word.length() + 4;
+    private boolean hasPuzzles() {
+        PuzzleCatalog catalog = puzzleCatalog();
+        return catalog != null && catalog.size() > 0;
+    }
+
+    /**
+     * Returns the puzzle catalog while it still belongs to the current dictionary.
+     * The catalog was checked against the index the reader returned at construction, so once the dictionary is
+     * reloaded its puzzles may no longer pass the rules and it is dropped for good.
+     *
+     * @return The PuzzleCatalog, or null if there is none or the dictionary changed.
+     */
+    private PuzzleCatalog puzzleCatalog() {
+        PuzzleCatalog catalog = puzzleCatalog;
+        if (catalog != null && readIndex() != catalogIndex) {
+            puzzleCatalog = catalog = null;
         }
-        return sum;
+        return catalog;
+    }
+
+    /**
+     * Checks if random letters can be chosen at all: a dictionary without a seven letter set has no pangram,
+     * so there is no candidate to draw.
+     *
+     * @return true if the puzzle catalog or the pangram catalog has at least one entry.
+     */
+    private boolean hasCandidates() {
+        return hasPuzzles() || readIndex().getPangramCatalog().size() > 0;
+    }
+
+    /**
+     * Chooses random letters, from the puzzle catalog if one is available.
+     *
+     * @return The letters of a random candidate.
+     */
+    private String randomLetters() {
+        PuzzleCatalog catalog = puzzleCatalog();
+        return catalog != null && catalog.size() > 0 ? randomPuzzleLetters(catalog) : randomCandidateLetters();
     }
 
     /**
-     * Calculates the total points of a list of words.
+     * Picks a random seven letter set of the pangram catalog and a random center letter of it that meets the criteria.
+     * The word counts and points of all seven center letters are counted in one sweep, so a set with an acceptable
+     * center letter never needs a second attempt. The outcomes of the sweep are remembered in the candidate cache,
+     * so every set is swept only once. Sets known to have no acceptable center letter are skipped without a sweep,
+     * as are sets that cannot reach the minimum word count or points with any center letter.
+     * After MAX_SKIPPED_CANDIDATES skipped sets a random center letter of the next set is taken anyway.
      *
-     * @param pangramWords A list of known pangram words.
-     * @param words The list of words for which to calculate total points.
-     * @return The total points of the list of words.
+     * @return The letters of a random candidate, with the center letter in the middle.
      */
-    private int filteredWordsTotal(List<String> pangramWords, List<String> words) {
-        int totalPoint = 0;
-        for (String word : words) {
-            totalPoint += getWordPoint(pangramWords, word);
+    private String randomCandidateLetters() {
+        CandidateCache cache = candidateCache();
+        PangramCatalog catalog = cache.getCatalog();
+        int[] centerWordCounts = new int[7];
+        int[] centerTotalPoints = new int[7];
+
+        for (int skipped = 0; ; skipped++) {
+            int i = r.nextInt(catalog.size());
+            int mask = catalog.getMask(i);
+            String setLetters = LetterMask.letters(mask);
+            if (skipped == MAX_SKIPPED_CANDIDATES) {
+                return arrangeLetters(mask, setLetters.charAt(r.nextInt(setLetters.length())), r);
+            }
+            if (setReachesMinimum(catalog.getWordCount(i), catalog.getTotalPoint(i))) {
+                if (!cache.isKnown(i)) {
+                    catalog.countByCenter(i, centerWordCounts, centerTotalPoints);
+                    sweptCount.increment();
+                    recordSweep(cache, i, setLetters, centerWordCounts, centerTotalPoints);
+                }
+                char centerLetter = pickCenterLetter(cache, i, setLetters);
+                if (centerLetter != 0) return arrangeLetters(mask, centerLetter, r);
+            }
+            skippedCount.increment();
         }
-        return totalPoint;
+    }
+
+    /**
+     * Records the outcome of every center letter of a swept set in the candidate cache.
+     *
+     * @param cache The candidate cache of the current dictionary.
+     * @param i The position of the seven letter set in the catalog.
+     * @param setLetters The letters of the set.
+     * @param centerWordCounts The word count of each center letter, in the order of the set's letters.
+     * @param centerTotalPoints The total points of each center letter, in the same order.
+     */
+    private void recordSweep(CandidateCache cache, int i, String setLetters, int[] centerWordCounts, int[] centerTotalPoints) {
+        for (int center = 0; center < setLetters.length(); center++) {
+            Rejection rejection = null;
+            if (!wordCountAcceptable(centerWordCounts[center])) {
+                rejection = Rejection.ILLEGAL_WORD_COUNT;
+            } else if (!totalPointAcceptable(centerTotalPoints[center])) {
+                rejection = Rejection.ILLEGAL_POINT_RANGE;
+            }
+            cache.record(i, setLetters.charAt(center), rejection);
+        }
+    }
+
+    /**
+     * Picks one of the center letters of a set that are known to be accepted, each with the same probability.
+     *
+     * @param cache The candidate cache of the current dictionary.
+     * @param i The position of the seven letter set in the catalog.
+     * @param setLetters The letters of the set.
+     * @return The picked center letter, or 0 if no center letter is known to be accepted.
+     */
+    private char pickCenterLetter(CandidateCache cache, int i, String setLetters) {
+        char centerLetter = 0;
+        int acceptedCount = 0;
+        for (int center = 0; center < setLetters.length(); center++) {
+            if (cache.isAccepted(i, setLetters.charAt(center)) && r.nextInt(++acceptedCount) == 0) {
+                centerLetter = setLetters.charAt(center);
+            }
+        }
+        return centerLetter;
+    }
+
+    /**
+     * Returns the candidate cache of the current dictionary, starting an empty one if the dictionary changed.
+     *
+     * @return The CandidateCache for the pangram catalog of the current index.
+     */
+    private CandidateCache candidateCache() {
+        PangramCatalog catalog = readIndex().getPangramCatalog();
+        CandidateCache cache = candidateCache;
+        if (cache == null || cache.getCatalog() != catalog) {
+            candidateCache = cache = new CandidateCache(catalog);
+        }
+        return cache;
+    }
+
+    /**
+     * Picks a random puzzle from the catalog and arranges its letters with the center letter in the middle.
+     *
+     * @param catalog The puzzle catalog of the current dictionary.
+     * @return The letters of a random puzzle.
+     */
+    private String randomPuzzleLetters(PuzzleCatalog catalog) {
+        int i = r.nextInt(catalog.size());
+        return arrangeLetters(catalog.getMask(i), catalog.getCenterLetter(i), r);
+    }
+
+    /**
+     * Arranges the letters of a letter mask so that the center letter is in the middle
+     * and the other letters are in random order around it.
+     *
+     * @param mask The letter mask of the seven letters.
+     * @param centerLetter The center letter.
+     * @param random The random generator used to mix the other letters, or null to keep them in alphabetical order.
+     * @return The arranged letters.
+     */
+    static String arrangeLetters(int mask, char centerLetter, Random random) {
+        List<Character> letters = new ArrayList<>();
+        for (char ch : LetterMask.letters(mask & ~LetterMask.bit(centerLetter)).toCharArray()) {
+            letters.add(ch);
+        }
+        if (random != null) {
+            Collections.shuffle(letters, random);
+        }
+        letters.add(letters.size() / 2, centerLetter);
+
+        StringBuilder arranged = new StringBuilder();
+        letters.forEach(arranged::append);
+        return arranged.toString();
+    }
+
+    /**
+     * Checks if the total points of the filtered words are within an acceptable range.
+     *
+     * @param totalPoint The total points of the words.
+     * @return true if the total points are between MIN_TOTAL_POINT and MAX_TOTAL_POINT, inclusive.
+     */
+    static boolean totalPointAcceptable(int totalPoint) {
+        return totalPoint >= MIN_TOTAL_POINT && totalPoint <= MAX_TOTAL_POINT;
+    }
+
+
+    /**
+     * Checks if a seven letter set can have an acceptable center letter. The words of a set are the most any of its
+     * center letters can have, so a set below the minimum word count or points has no acceptable center letter.
+     *
+     * @param setWordCount The number of words of the set, with any center letter.
+     * @param setTotalPoint The total points of the words of the set.
+     * @return true if the set reaches MIN_WORD_COUNT and MIN_TOTAL_POINT.
+     */
+    static boolean setReachesMinimum(int setWordCount, int setTotalPoint) {
+        return setWordCount >= MIN_WORD_COUNT && setTotalPoint >= MIN_TOTAL_POINT;
+    }
+
+    /**
+     * Checks if the word count is within an acceptable range.
+     *
+     * @param wordCount The number of words.
+     * @return true if the word count is between MIN_WORD_COUNT and MAX_WORD_COUNT, inclusive.
+     */
+    static boolean wordCountAcceptable(int wordCount) {
+        return wordCount >= MIN_WORD_COUNT && wordCount <= MAX_WORD_COUNT;
     }
 
     /**
@@ -215,58 +599,51 @@ public class GameCreatorManager implements GameCreatorService{
 
     /**
      * Performs initial status checks on the filtered data.
+     * If filtering stopped early the word count is only known to be too high when it exceeds the maximum.
      *
      * @param filteredData The filtered data to be checked.
      * @throws PangramNotFoundException If no pangram words are found.
      * @throws IllegalWordCountException If the word count is not within the acceptable range.
      */
     private void firstStatusChecks(FilteredData filteredData) throws PangramNotFoundException, IllegalWordCountException {
-        if (filteredData.getPangramWords().size() == 0) {
+        int wordCount = filteredData.getWordCount();
+        if (filteredData.getPangramCount() == 0) {
             throw new PangramNotFoundException(Messages.PANGRAM_NOT_FOUND);
         }
-        if (!wordCountAcceptable(filteredData.getWords().size())) {
+        if (wordCount > MAX_WORD_COUNT || (!filteredData.isTruncated() && !wordCountAcceptable(wordCount))) {
             throw new IllegalWordCountException(Messages.ILLEGAL_WORD_COUNT);
         }
     }
 
     /**
-     * Performs secondary status checks on the filtered words and pangram words.
+     * Performs secondary status checks on the total points of the filtered data.
      *
-     * @param filteredWords The list of filtered words.
-     * @param pangramWords The list of pangram words.
+     * @param filteredData The filtered data to be checked.
      * @throws IllegalPointRangeException If the total points are not within the acceptable range.
      */
-    private void secondStatusChecks(List<String> filteredWords, List<String> pangramWords) throws IllegalPointRangeException {
-        if (!totalPointAcceptable(filteredWordsTotal(pangramWords, filteredWords))) {
+    private void secondStatusChecks(FilteredData filteredData) throws IllegalPointRangeException {
+        if (filteredData.isTruncated() || !totalPointAcceptable(filteredData.getTotalPoint())) {
             throw new IllegalPointRangeException(Messages.ILLEGAL_POINT_RANGE);
         }
     }
 
     /**
      * Filters words based on the given letters.
+     * Filtering stops early once the words exceed the maximum word count or total points.
      *
      * @param letters The letters used for filtering.
      * @return FilteredData containing the filtered list of words.
      */
     private FilteredData filterWords(String letters) {
-        return dataFilter.filter(readWords(), letters);
-    }
-
-    /**
-     * Filters words without any specific letters.
-     *
-     * @return FilteredData containing the filtered list of words.
-     */
-    private FilteredData filterWords() {
-        return dataFilter.filter(readWords());
+        return dataFilter.filter(readIndex(), letters, MAX_WORD_COUNT, MAX_TOTAL_POINT);
     }
 
     /**
-     * Reads words from a data source.
+     * Reads the indexed words from a data source.
      *
-     * @return A list of words read from the data source.
+     * @return A WordIndex of the words read from the data source.
      */
-    private List<String> readWords() {
-        return dataReader.read();
+    private WordIndex readIndex() {
+        return dataReader.readIndex();
     }
 }
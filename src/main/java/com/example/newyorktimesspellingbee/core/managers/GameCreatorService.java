@@ -2,6 +2,9 @@ package com.example.newyorktimesspellingbee.core.managers;
 
 import com.example.newyorktimesspellingbee.core.data.GameData;
 import com.example.newyorktimesspellingbee.core.exceptions.*;
+import com.example.newyorktimesspellingbee.core.results.GenerationStatistics;
+
+import java.util.concurrent.CompletableFuture;
 
 /**
  * The GameCreatorService interface defines methods for creating game data for the New York Times Spelling Bee game.
@@ -36,4 +39,25 @@ public interface GameCreatorService {
      */
     GameData create() throws PangramNotFoundException, IllegalWordCountException, IllegalPointRangeException;
 
+    /**
+     * Searches for game data without a predefined set of letters on a background thread, within a budget.
+     * Rejected candidates are retried until a game meets all criteria, the budget is spent or the token is cancelled.
+     * Cancelling the returned future cancels the token as well.
+     *
+     * @param budget The maximum number of attempts and time to spend.
+     * @param token The token used to cancel the search.
+     * @return A future completed with a game that meets all criteria. If the budget is spent it is completed with the
+     *         best rejected candidate that has a pangram, or exceptionally with GenerationBudgetExhaustedException if
+     *         there is none. A cancelled search completes exceptionally with GenerationCancelledException.
+     */
+    CompletableFuture<GameData> create(GenerationBudget budget, CancellationToken token);
+
+    /**
+     * Returns the statistics of the random candidates filtered so far, such as the acceptance rate
+     * and the attempts per game.
+     *
+     * @return GenerationStatistics of this creator.
+     */
+    GenerationStatistics getStatistics();
+
 }
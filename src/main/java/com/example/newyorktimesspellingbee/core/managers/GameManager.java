@@ -1,12 +1,13 @@
 package com.example.newyorktimesspellingbee.core.managers;
 
-import com.example.newyorktimesspellingbee.core.constants.Messages;
 import com.example.newyorktimesspellingbee.core.data.GameData;
+import com.example.newyorktimesspellingbee.core.events.WordCheckEvent;
 import com.example.newyorktimesspellingbee.core.exceptions.*;
+import com.example.newyorktimesspellingbee.core.results.CheckResult;
 import com.example.newyorktimesspellingbee.core.results.PointResult;
+import com.example.newyorktimesspellingbee.core.results.Verdict;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.BitSet;
 
 /**
  * The GameManager class implements the GameService interface and manages the game logic
@@ -14,12 +15,10 @@ import java.util.List;
  * and tracking of found words and current points.
  */
 public class GameManager implements GameService {
-    private final int MIN_WORD_LENGTH = 4;
     private final GameData data;
+    private final WordRules rules;
     private int currentPoint = 0;
-    private final List<String> foundWords;
-
-    private final int maximumPoint;
+    private final BitSet foundWords; // Ids of the words found so far.
 
     /**
      * Constructs a GameManager with the specified game data.
@@ -28,8 +27,8 @@ public class GameManager implements GameService {
      */
     public GameManager(GameData data) {
         this.data = data;
-        foundWords = new ArrayList<>();
-        maximumPoint = calculateMaximumPoint();
+        rules = new WordRules(data);
+        foundWords = new BitSet(data.getWordCount());
     }
 
     /**
@@ -46,128 +45,71 @@ public class GameManager implements GameService {
      */
     @Override
     public PointResult check(String inputWord) throws DictionaryDoesNotContainWordException, IllegalWordLengthException, WordContainsIllegalLetterException, WordDoesNotContainCenterLetterException, WordAlreadyFoundException {
-
-        checkLength(inputWord);
-        checkCenterLetter(inputWord);
-        checkIllegalLetter(inputWord);
-        checkDictionary(inputWord);
-        checkFound(inputWord);
-        int point = calculatePoint(inputWord);
-
-        currentPoint += point;
-        foundWords.add(inputWord);
-
-        return new PointResult(inputWord, point, currentPoint);
-    }
-
-    /**
-     * Checks if the input word has already been found in the current game session.
-     * Throws an exception if the word has already been found.
-     *
-     * @param inputWord The word to be checked.
-     * @throws WordAlreadyFoundException If the input word has already been found.
-     */
-    private void checkFound(String inputWord) throws WordAlreadyFoundException {
-        if (foundWords.contains(inputWord)) {
-            throw new WordAlreadyFoundException(Messages.WORD_ALREADY_FOUND);
+        CheckResult result = validate(inputWord);
+
+        switch (result.getVerdict()) {
+            case ILLEGAL_WORD_LENGTH:
+                throw new IllegalWordLengthException(result.getMessage());
+            case WORD_DOES_NOT_CONTAIN_CENTER_LETTER:
+                throw new WordDoesNotContainCenterLetterException(result.getMessage());
+            case WORD_CONTAINS_ILLEGAL_LETTER:
+                throw new WordContainsIllegalLetterException(result.getMessage());
+            case DICTIONARY_DOES_NOT_CONTAIN_WORD:
+                throw new DictionaryDoesNotContainWordException(result.getMessage());
+            case WORD_ALREADY_FOUND:
+                throw new WordAlreadyFoundException(result.getMessage());
+            default:
+                return new PointResult(result.getWord(), result.getPoint(), result.getCurrentPoint());
         }
     }
 
     /**
-     * Gets the current total points earned in the game.
-     *
-     * @return The current total points.
-     */
-    public int getCurrentPoint() {
-        return currentPoint;
-    }
-
-    /**
-     * Calculates the point value for a given input word.
-     * Points are calculated differently for pangram words.
+     * Checks the validity of an input word against game rules and calculates points for it, without exceptions.
+     * The rules are checked in the same order as check() does, and the first broken rule is returned as the verdict.
+     * Every check is recorded as a WordCheckEvent.
      *
-     * @param inputWord The word for which to calculate the points.
-     * @return The calculated point value for the input word.
-     */
-    private int calculatePoint(String inputWord) {
-        if (data.getPangramWords().contains(inputWord))
-            return inputWord.length() + MIN_WORD_LENGTH;
-
-        return inputWord.length() - MIN_WORD_LENGTH + 1;
-    }
-
-    /**
-     * Checks if the input word contains any illegal letters that are not part of the game data.
-     * Throws an exception if an illegal letter is found.
-     *
-     * @param inputWord The word to be checked for illegal letters.
-     * @throws WordContainsIllegalLetterException If the input word contains letters not in the game data.
+     * @param inputWord The word input by the player to be checked.
+     * @return CheckResult with the verdict, and the points earned if the word is accepted.
      */
-    private void checkIllegalLetter(String inputWord) throws WordContainsIllegalLetterException {
-        String letters = data.getLetters();
-
-        for (int i = 0; i < inputWord.length(); i++) {
-            char ch = inputWord.charAt(i);
-            if (!letters.contains(Character.toString(ch)))
-                throw new WordContainsIllegalLetterException(Messages.WORD_CONTAINS_ILLEGAL_LETTER);
-        }
+    @Override
+    public CheckResult validate(String inputWord) {
+        WordCheckEvent event = new WordCheckEvent();
+        event.begin();
+        CheckResult result = validateWord(inputWord);
+        event.setVerdict(result.getVerdict());
+        event.setWordLength(inputWord.length());
+        event.commit();
+        return result;
     }
 
     /**
-     * Checks if the input word contains the center letter required in the game.
-     * Throws an exception if the center letter is not found in the word.
+     * Checks the validity of an input word against game rules and calculates points for it, see validate().
      *
-     * @param inputWord The word to be checked for the center letter.
-     * @throws WordDoesNotContainCenterLetterException If the input word does not contain the center letter.
+     * @param inputWord The word input by the player to be checked.
+     * @return CheckResult with the verdict, and the points earned if the word is accepted.
      */
-    private void checkCenterLetter(String inputWord) throws WordDoesNotContainCenterLetterException {
-        char centerLetter = data.getLetters().charAt(data.getLetters().length() / 2);
+    private CheckResult validateWord(String inputWord) {
+        int id = rules.check(inputWord);
+        if (id < 0)
+            return CheckResult.rejected(WordRules.verdictOf(id));
 
+        if (foundWords.get(id))
+            return CheckResult.rejected(Verdict.WORD_ALREADY_FOUND);
 
-        if (!inputWord.contains(Character.toString(centerLetter)))
-            throw new WordDoesNotContainCenterLetterException(Messages.WORD_DOES_NOT_CONTAIN_CENTER_LETTER);
+        int point = rules.getPoint(id);
+        currentPoint += point;
+        foundWords.set(id);
 
+        return CheckResult.accepted(inputWord, point, currentPoint);
     }
 
     /**
-     * Checks if the length of the input word is at least the minimum word length required in the game.
-     * Throws an exception if the word is too short.
-     *
-     * @param inputWord The word to be checked for length.
-     * @throws IllegalWordLengthException If the input word is shorter than the minimum required length.
-     */
-    private void checkLength(String inputWord) throws IllegalWordLengthException {
-        if (inputWord.length() < MIN_WORD_LENGTH)
-            throw new IllegalWordLengthException(Messages.ILLEGAL_WORD_LENGTH);
-    }
-
-
-    /**
-     * Checks if the input word is contained within the game's dictionary.
-     * Throws an exception if the word is not found in the dictionary.
-     *
-     * @param inputWord The word to be checked against the dictionary.
-     * @throws DictionaryDoesNotContainWordException If the input word is not in the game's dictionary.
-     */
-    private void checkDictionary(String inputWord) throws DictionaryDoesNotContainWordException {
-        if (!data.getWords().contains(inputWord))
-            throw new DictionaryDoesNotContainWordException(Messages.DICTIONARY_DOES_NOT_CONTAIN_WORD);
-    }
-
-    /**
-     * Calculates the maximum possible point score for the current game configuration.
-     * This is based on the point values of all words available in the game data.
+     * Gets the current total points earned in the game.
      *
-     * @return An integer representing the maximum points that can be earned in the game.
+     * @return The current total points.
      */
-    private int calculateMaximumPoint() {
-        int point = 0;
-
-        for (String word : data.getWords()) {
-            point += calculatePoint(word);
-        }
-
-        return point;
+    public int getCurrentPoint() {
+        return currentPoint;
     }
 
     /**
@@ -177,6 +119,6 @@ public class GameManager implements GameService {
      */
     @Override
     public int getMaximumPoint() {
-        return maximumPoint;
+        return rules.getMaximumPoint();
     }
 }
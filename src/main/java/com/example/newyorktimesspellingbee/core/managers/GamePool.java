@@ -0,0 +1,229 @@
+package com.example.newyorktimesspellingbee.core.managers;
+
+import com.example.newyorktimesspellingbee.core.data.DataReader;
+import com.example.newyorktimesspellingbee.core.data.GameData;
+import com.example.newyorktimesspellingbee.core.data.WordIndex;
+import com.example.newyorktimesspellingbee.core.events.GameGenerationEvent;
+import com.example.newyorktimesspellingbee.core.exceptions.*;
+import com.example.newyorktimesspellingbee.core.results.GenerationStatistics;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GamePool keeps a bounded number of ready-to-play games that are created by a background worker.
+ * Taking a game from the pool returns at once and triggers a refill, so starting a game never waits
+ * for game creation unless the pool has run empty.
+ * Every pooled game remembers the dictionary index it was built from, and games of an index that was replaced
+ * by a reload are discarded instead of handed out.
+ */
+public class GamePool implements AutoCloseable {
+    private final int MAX_REFILL_ATTEMPTS = 1000;
+    private final GameCreatorService creatorService;
+    private final DataReader dataReader;
+    private final BlockingQueue<PooledGame> games;
+    private final int capacity;
+    private final ExecutorService worker;
+    private final AtomicBoolean refillScheduled = new AtomicBoolean();
+
+    private final AtomicLong lastRefillNanos = new AtomicLong();  // Time it took to create the last pooled game.
+    private final AtomicLong totalRefillNanos = new AtomicLong(); // Time it took to create all pooled games.
+    private final AtomicLong refillCount = new AtomicLong();      // Number of pooled games created.
+    private final AtomicLong missCount = new AtomicLong();        // Number of takes that found the pool empty.
+    private final AtomicLong staleCount = new AtomicLong();       // Number of pooled games discarded after a reload.
+
+    /**
+     * Constructs a GamePool that fills itself with games of the given creator service.
+     *
+     * @param creatorService The GameCreatorService used to create the games.
+     * @param dataReader The DataReader of the dictionary the games are created from.
+     * @param capacity The number of games kept ready.
+     */
+    public GamePool(GameCreatorService creatorService, DataReader dataReader, int capacity) {
+        this.creatorService = creatorService;
+        this.dataReader = dataReader;
+        this.capacity = capacity;
+        games = new ArrayBlockingQueue<>(capacity);
+        worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-pool");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts filling the pool in the background.
+     */
+    public void start() {
+        refill();
+    }
+
+    /**
+     * Takes a ready game from the pool and triggers a refill.
+     * Games built from an index that is no longer the current one are discarded.
+     * If the pool is empty the game is searched for within the given budget instead.
+     *
+     * @param budget The budget used to search for a game if the pool is empty.
+     * @param token The token used to cancel the search.
+     * @return A future completed with the game, see GameCreatorService.create(GenerationBudget, CancellationToken).
+     */
+    public CompletableFuture<GameData> take(GenerationBudget budget, CancellationToken token) {
+        WordIndex index = dataReader.readIndex();
+        PooledGame game = games.poll();
+        while (game != null && game.index != index) {
+            staleCount.incrementAndGet();
+            game = games.poll();
+        }
+        refill();
+        if (game != null) return CompletableFuture.completedFuture(game.data);
+
+        missCount.incrementAndGet();
+        return creatorService.create(budget, token);
+    }
+
+    /**
+     * Schedules the background worker to fill the pool, unless it is already scheduled.
+     */
+    private void refill() {
+        if (refillScheduled.compareAndSet(false, true)) {
+            worker.execute(this::fill);
+        }
+    }
+
+    /**
+     * Creates games until the pool is full. Rejected games are retried up to MAX_REFILL_ATTEMPTS times per game.
+     */
+    private void fill() {
+        refillScheduled.set(false);
+        while (games.remainingCapacity() > 0 && !Thread.currentThread().isInterrupted()) {
+            long start = System.nanoTime();
+            WordIndex index = dataReader.readIndex();
+            GameData data = createGame();
+            if (data == null) return;
+
+            long elapsed = System.nanoTime() - start;
+            lastRefillNanos.set(elapsed);
+            totalRefillNanos.addAndGet(elapsed);
+            refillCount.incrementAndGet();
+            if (index != dataReader.readIndex()) continue; // Reloaded while the game was created
+            if (!games.offer(new PooledGame(data, index))) return;
+        }
+    }
+
+    /**
+     * Creates one game, retrying rejected games, and records the search as a GameGenerationEvent.
+     *
+     * @return GameData of a game, or null if every attempt was rejected.
+     */
+    private GameData createGame() {
+        GameGenerationEvent event = new GameGenerationEvent();
+        event.begin();
+        try {
+            for (int attempt = 1; attempt <= MAX_REFILL_ATTEMPTS; attempt++) {
+                event.setAttempts(attempt);
+                try {
+                    GameData data = creatorService.create();
+                    event.setOutcome("accepted");
+                    return data;
+                } catch (PangramNotFoundException | IllegalWordCountException | IllegalPointRangeException e) {
+                    // Try other random letters
+                }
+            }
+            event.setOutcome("exhausted");
+            return null;
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns the number of games ready in the pool.
+     *
+     * @return The current pool size.
+     */
+    public int size() {
+        return games.size();
+    }
+
+    /**
+     * Returns the number of games the pool keeps ready.
+     *
+     * @return The pool capacity.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the time it took to create the last pooled game, including rejected attempts.
+     *
+     * @return The last refill latency in nanoseconds, or 0 if no game was pooled yet.
+     */
+    public long getLastRefillNanos() {
+        return lastRefillNanos.get();
+    }
+
+    /**
+     * Returns the average time it took to create a pooled game, including rejected attempts.
+     *
+     * @return The average refill latency in nanoseconds, or 0 if no game was pooled yet.
+     */
+    public long getAverageRefillNanos() {
+        long count = refillCount.get();
+        return count == 0 ? 0 : totalRefillNanos.get() / count;
+    }
+
+    /**
+     * Returns the number of takes that found the pool empty and had to search for a game.
+     *
+     * @return The miss count.
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Returns the number of pooled games that were discarded because the dictionary was reloaded.
+     *
+     * @return The stale game count.
+     */
+    public long getStaleCount() {
+        return staleCount.get();
+    }
+
+    /**
+     * Returns the statistics of the random candidates filtered to create games, by the pool and by searches of empty takes.
+     *
+     * @return GenerationStatistics of the pool's GameCreatorService.
+     */
+    public GenerationStatistics getStatistics() {
+        return creatorService.getStatistics();
+    }
+
+    /**
+     * Stops the background worker. Games left in the pool are discarded.
+     */
+    @Override
+    public void close() {
+        worker.shutdownNow();
+        games.clear();
+    }
+
+    /**
+     * A pooled game and the dictionary index it was built from.
+     */
+    private static class PooledGame {
+        private final GameData data;
+        private final WordIndex index;
+
+        private PooledGame(GameData data, WordIndex index) {
+            this.data = data;
+            this.index = index;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.newyorktimesspellingbee.core.managers;
 
 import com.example.newyorktimesspellingbee.core.exceptions.*;
+import com.example.newyorktimesspellingbee.core.results.CheckResult;
 import com.example.newyorktimesspellingbee.core.results.PointResult;
 
 /**
@@ -24,6 +25,16 @@ public interface GameService {
     PointResult check(String inputWord) throws DictionaryDoesNotContainWordException, IllegalWordLengthException,
                                                WordContainsIllegalLetterException, WordDoesNotContainCenterLetterException,
                                                WordAlreadyFoundException;
+
+    /**
+     * Checks the validity of an input word against game rules and criteria without throwing exceptions.
+     * Rejected words return a shared result, so this is the method to use when checking words at high rates.
+     *
+     * @param inputWord The word input by the player to be checked.
+     * @return CheckResult with the verdict, and the points earned if the word is accepted.
+     */
+    CheckResult validate(String inputWord);
+
     /**
      * Retrieves the maximum possible point score for the current game configuration.
      *
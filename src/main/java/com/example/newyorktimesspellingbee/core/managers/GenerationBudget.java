@@ -0,0 +1,31 @@
+package com.example.newyorktimesspellingbee.core.managers;
+
+import java.time.Duration;
+
+/**
+ * GenerationBudget limits how long a game may be searched for, both in attempts and in time.
+ * Whichever limit is reached first ends the search.
+ */
+public class GenerationBudget {
+    private final int maxAttempts;
+    private final Duration timeout;
+
+    /**
+     * Constructs a GenerationBudget.
+     *
+     * @param maxAttempts The maximum number of candidate games to try.
+     * @param timeout The maximum time to search for a game.
+     */
+    public GenerationBudget(int maxAttempts, Duration timeout) {
+        this.maxAttempts = maxAttempts;
+        this.timeout = timeout;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.newyorktimesspellingbee.core.managers;
+
+import com.example.newyorktimesspellingbee.core.data.DataReader;
+import com.example.newyorktimesspellingbee.core.data.LetterMask;
+import com.example.newyorktimesspellingbee.core.data.PangramCatalog;
+import com.example.newyorktimesspellingbee.core.data.PuzzleCatalog;
+import com.example.newyorktimesspellingbee.core.data.TxtReader;
+import com.example.newyorktimesspellingbee.core.data.WordIndex;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * PuzzleCatalogGenerator enumerates every puzzle of a dictionary and keeps those that meet the criteria of GameCreatorManager.
+ * A puzzle is a seven letter set that has a pangram together with one of its letters as center letter.
+ * The words and points of all seven center letters of a set are counted in one sweep over the subsets of the set.
+ * The result is written as a PuzzleCatalog, which is bundled with the application so random games
+ * never have to be searched for at runtime.
+ */
+public class PuzzleCatalogGenerator {
+    private static final String DEFAULT_OUTPUT = "src/main/resources/" + PuzzleCatalog.FILE_PATH;
+
+    private final DataReader dataReader;
+    private final LongAdder checkedCount = new LongAdder(); // Puzzles checked against the rules so far.
+
+    /**
+     * Constructs a PuzzleCatalogGenerator with specified data reader.
+     *
+     * @param dataReader An instance of DataReader for reading word data.
+     */
+    public PuzzleCatalogGenerator(DataReader dataReader) {
+        this.dataReader = dataReader;
+    }
+
+    /**
+     * Enumerates every seven letter set and center letter of the dictionary and collects the accepted puzzles.
+     * Sets whose words cannot reach the minimum word count or points with any center letter are skipped.
+     *
+     * @return PuzzleCatalog containing all accepted puzzles.
+     */
+    public PuzzleCatalog generate() {
+        WordIndex index = dataReader.readIndex();
+        PangramCatalog pangramCatalog = index.getPangramCatalog();
+
+        return new PuzzleCatalog(index.getWords(), collect(pangramCatalog, 0, pangramCatalog.size()));
+    }
+
+    /**
+     * Enumerates the puzzles like generate(), but splits the seven letter sets across the threads of a ForkJoinPool.
+     * The puzzles are returned in the same order as generate() returns them.
+     *
+     * @param pool The pool to run the enumeration in.
+     * @return PuzzleCatalog containing all accepted puzzles.
+     */
+    public PuzzleCatalog generate(ForkJoinPool pool) {
+        WordIndex index = dataReader.readIndex();
+        PangramCatalog pangramCatalog = index.getPangramCatalog();
+
+        int[] puzzles = pool.invoke(new CollectTask(pangramCatalog, 0, pangramCatalog.size()));
+        return new PuzzleCatalog(index.getWords(), puzzles);
+    }
+
+    /**
+     * Returns the number of puzzles checked against the game creation rules so far.
+     *
+     * @return The number of checked puzzles.
+     */
+    public long getCheckedCount() {
+        return checkedCount.sum();
+    }
+
+    /**
+     * Collects the accepted puzzles of a range of seven letter sets.
+     *
+     * @param pangramCatalog The catalog of seven letter sets.
+     * @param from The first set of the range, inclusive.
+     * @param to The last set of the range, exclusive.
+     * @return The packed puzzles of the range.
+     */
+    private int[] collect(PangramCatalog pangramCatalog, int from, int to) {
+        int[] puzzles = new int[(to - from) * 7];
+        int[] centerWordCounts = new int[7];
+        int[] centerTotalPoints = new int[7];
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (!GameCreatorManager.setReachesMinimum(pangramCatalog.getWordCount(i), pangramCatalog.getTotalPoint(i))) continue;
+
+            int mask = pangramCatalog.getMask(i);
+            String letters = LetterMask.letters(mask);
+            pangramCatalog.countByCenter(i, centerWordCounts, centerTotalPoints);
+            for (int center = 0; center < letters.length(); center++) {
+                checkedCount.increment();
+                if (isAccepted(centerWordCounts[center], centerTotalPoints[center])) {
+                    puzzles[count++] = PuzzleCatalog.pack(mask, letters.charAt(center));
+                }
+            }
+        }
+
+        return Arrays.copyOf(puzzles, count);
+    }
+
+    /**
+     * Checks if GameCreatorManager accepts a puzzle. The puzzle always has a pangram, since its set is in the catalog
+     * and every pangram contains the center letter.
+     *
+     * @param wordCount The word count of the puzzle.
+     * @param totalPoint The total points of the puzzle.
+     * @return true if a game can be created from the puzzle.
+     */
+    private boolean isAccepted(int wordCount, int totalPoint) {
+        return GameCreatorManager.wordCountAcceptable(wordCount) && GameCreatorManager.totalPointAcceptable(totalPoint);
+    }
+
+    /**
+     * Generates the catalog of the bundled dictionary and writes it next to data.txt.
+     * With --parallel the enumeration runs on all available cores.
+     *
+     * @param args Optional --parallel flag followed by an optional output path of the catalog.
+     * @throws IOException If the catalog cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        boolean parallel = args.length > 0 && args[0].equals("--parallel");
+        int pathArg = parallel ? 1 : 0;
+        Path output = Paths.get(args.length > pathArg ? args[pathArg] : DEFAULT_OUTPUT);
+
+        DataReader dataReader = new TxtReader();
+        dataReader.readIndex().getPangramCatalog();
+        PuzzleCatalogGenerator generator = new PuzzleCatalogGenerator(dataReader);
+
+        long start = System.nanoTime();
+        PuzzleCatalog catalog = parallel ? generator.generate(ForkJoinPool.commonPool()) : generator.generate();
+        long elapsed = System.nanoTime() - start;
+
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(output))) {
+            catalog.write(out);
+        }
+        double seconds = elapsed / 1e9;
+        System.out.printf("%d puzzles written to %s in %d ms%n", catalog.size(), output, elapsed / 1_000_000);
+        System.out.printf("%s: %d threads, %.0f puzzles checked/s%n",
+                parallel ? "parallel" : "sequential",
+                parallel ? ForkJoinPool.commonPool().getParallelism() : 1,
+                generator.getCheckedCount() / seconds);
+    }
+
+    /**
+     * CollectTask splits a range of seven letter sets in halves until it is small enough to be collected directly.
+     */
+    private class CollectTask extends RecursiveTask<int[]> {
+        private static final int THRESHOLD = 64;
+
+        private final PangramCatalog pangramCatalog;
+        private final int from;
+        private final int to;
+
+        CollectTask(PangramCatalog pangramCatalog, int from, int to) {
+            this.pangramCatalog = pangramCatalog;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from <= THRESHOLD) {
+                return collect(pangramCatalog, from, to);
+            }
+
+            int middle = (from + to) >>> 1;
+            CollectTask left = new CollectTask(pangramCatalog, from, middle);
+            left.fork();
+            int[] right = new CollectTask(pangramCatalog, middle, to).compute();
+            int[] leftPuzzles = left.join();
+
+            int[] puzzles = Arrays.copyOf(leftPuzzles, leftPuzzles.length + right.length);
+            System.arraycopy(right, 0, puzzles, leftPuzzles.length, right.length);
+            return puzzles;
+        }
+    }
+}
@@ -0,0 +1,416 @@
+package com.example.newyorktimesspellingbee.core.managers;
+
+import com.example.newyorktimesspellingbee.core.data.GameData;
+import com.example.newyorktimesspellingbee.core.data.PuzzleCatalog;
+import com.example.newyorktimesspellingbee.core.results.SavedSession;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SessionStore saves the progress of the current game so it can be resumed after returning to the menu
+ * or restarting the application. The progress is kept in two files:
+ * a snapshot with the puzzle, the found words as a bitset and the score, which is replaced atomically,
+ * and an append-only journal of the words accepted since the snapshot, eight bytes per word.
+ * Recovery reads the snapshot and replays the journal onto it.
+ *
+ * Nothing is written by the thread that checks the words: accepted words and snapshots are queued and written
+ * by a background thread, which collects everything queued within BATCH_MILLIS and forces it to disk at once.
+ * A snapshot makes the journal before it obsolete, so the journal is reset whenever a snapshot is written.
+ * A failed write is logged and kept until a later batch is forced to disk, so the game can tell the player.
+ * The batch after a failure writes a new snapshot, so the words accepted meanwhile are not lost.
+ *
+ * Snapshot format (big endian): magic, version, sequence, puzzle, word count, word list checksum, score,
+ * bitset length, bitset words.
+ * The bitset always has (word count + 63) / 64 words, so a snapshot of another length is known to be damaged.
+ * Journal format (big endian): magic, version, sequence of its snapshot, then word id and points of every word.
+ */
+public class SessionStore implements AutoCloseable {
+    public static final String SNAPSHOT_FILE = "session.bin";
+    public static final String JOURNAL_FILE = "session.journal";
+    private static final int SNAPSHOT_MAGIC = 0x53425353; // "SBSS"
+    private static final int JOURNAL_MAGIC = 0x5342534A;  // "SBSJ"
+    private static final int VERSION = 2;
+    private static final int SNAPSHOT_HEADER_SIZE = 40;   // Magic, version, sequence, puzzle, word count, checksum, score and bitset length.
+    private static final int JOURNAL_HEADER_SIZE = 16;    // Magic, version and sequence.
+    private static final int RECORD_SIZE = 8;             // Word id and points.
+    private static final long BATCH_MILLIS = 50;          // Time to collect writes before forcing them to disk.
+    private static final long CLOSE_MILLIS = 2000;        // Longest wait for the pending writes on close.
+    private static final System.Logger LOGGER = System.getLogger(SessionStore.class.getName());
+
+    private final Path directory;
+    private final BlockingQueue<Write> writes = new LinkedBlockingQueue<>();
+    private final Thread writer;
+    private volatile Session current;     // Session of the game being played, if any.
+    private volatile SavedSession saved;  // Last saved or recovered session.
+    private volatile IOException failure; // Failure of the last written batch, if it failed.
+    private FileChannel journal;          // Open journal, used by the writer thread only.
+    private long sequence = 0;            // Sequence of the last written snapshot, used by the writer thread only.
+    private SavedSession latest;          // Last queued snapshot with the words queued after it, used by the writer thread only.
+
+    /**
+     * Constructs a SessionStore saving to the given directory, which is created with the first snapshot.
+     *
+     * @param directory The directory of the session files.
+     */
+    public SessionStore(Path directory) {
+        this.directory = directory;
+        writer = new Thread(this::write, "session-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Starts saving a new game. The previously saved session is replaced.
+     *
+     * @param data The GameData of the new game.
+     * @return The Session to record the found words of the game with.
+     */
+    public Session start(GameData data) {
+        return begin(data, new BitSet(data.getWordCount()), 0);
+    }
+
+    /**
+     * Continues saving a saved game.
+     *
+     * @param data The GameData created from the letters of the saved session.
+     * @param savedSession The saved session.
+     * @return The Session to record further found words of the game with.
+     */
+    public Session resume(GameData data, SavedSession savedSession) {
+        return begin(data, savedSession.getFoundWords(), savedSession.getScore());
+    }
+
+    private Session begin(GameData data, BitSet foundWords, int score) {
+        Session session = new Session(data, foundWords, score);
+        current = session;
+        session.save();
+        return session;
+    }
+
+    /**
+     * Forgets the saved session and deletes its files, for a session that can no longer be resumed.
+     */
+    public void discard() {
+        current = null;
+        saved = null;
+        writes.add(Write.DISCARD);
+    }
+
+    /**
+     * Returns the last saved session, or the recovered one if nothing was saved since recover().
+     *
+     * @return The SavedSession, or null if there is none.
+     */
+    public SavedSession getSavedSession() {
+        return saved;
+    }
+
+    /**
+     * Returns the failure of the last written batch.
+     *
+     * @return The IOException the last batch failed with, or null if it was written.
+     */
+    public IOException getFailure() {
+        return failure;
+    }
+
+    /**
+     * Reads the saved session from the snapshot and the words of the journal written after it.
+     * A journal of another snapshot and a partly written last record are ignored.
+     * The bitset length is checked against the word count and the file size before anything is allocated for it.
+     * Call it before a session is started.
+     *
+     * @return The recovered SavedSession, or null if no session was saved.
+     * @throws IOException If the snapshot cannot be read, is not a session snapshot or is damaged.
+     */
+    public SavedSession recover() throws IOException {
+        ByteBuffer snapshot;
+        try {
+            snapshot = ByteBuffer.wrap(Files.readAllBytes(directory.resolve(SNAPSHOT_FILE)));
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        if (snapshot.remaining() < SNAPSHOT_HEADER_SIZE || snapshot.getInt() != SNAPSHOT_MAGIC || snapshot.getInt() != VERSION) {
+            throw new IOException("Not a session snapshot");
+        }
+        long snapshotSequence = snapshot.getLong();
+        int puzzle = snapshot.getInt();
+        int wordCount = snapshot.getInt();
+        long checksum = snapshot.getLong();
+        int score = snapshot.getInt();
+        int length = snapshot.getInt();
+        if (wordCount < 0 || length != (wordCount + 63) / 64 || snapshot.remaining() != (long) length * Long.BYTES) {
+            throw new IOException("Damaged session snapshot");
+        }
+        long[] words = new long[length];
+        snapshot.asLongBuffer().get(words);
+        BitSet foundWords = BitSet.valueOf(words);
+        if (foundWords.length() > wordCount) throw new IOException("Damaged session snapshot");
+
+        try (InputStream in = Files.newInputStream(directory.resolve(JOURNAL_FILE))) {
+            ByteBuffer records = ByteBuffer.wrap(in.readAllBytes());
+            if (records.remaining() >= JOURNAL_HEADER_SIZE && records.getInt() == JOURNAL_MAGIC
+                    && records.getInt() == VERSION && records.getLong() == snapshotSequence) {
+                while (records.remaining() >= RECORD_SIZE) {
+                    int id = records.getInt();
+                    int point = records.getInt();
+                    if (id >= 0 && id < wordCount && !foundWords.get(id)) {
+                        foundWords.set(id);
+                        score += point;
+                    }
+                }
+            }
+        } catch (NoSuchFileException e) {
+            // Nothing was found after the snapshot
+        }
+
+        saved = new SavedSession(puzzle, wordCount, checksum, score, foundWords);
+        return saved;
+    }
+
+    /**
+     * Saves the current session and waits up to CLOSE_MILLIS until everything queued is on disk.
+     */
+    @Override
+    public void close() {
+        Session session = current;
+        if (session != null) session.save();
+        writes.add(Write.CLOSE);
+        try {
+            writer.join(CLOSE_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Writes the queued writes in batches until the store is closed.
+     */
+    private void write() {
+        List<Write> batch = new ArrayList<>();
+        boolean closed = false;
+        while (!closed) {
+            try {
+                batch.add(writes.take());
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(BATCH_MILLIS);
+                Write next;
+                while (batch.get(batch.size() - 1) != Write.CLOSE
+                        && (next = writes.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) != null) {
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                batch.add(Write.CLOSE);
+            }
+
+            closed = batch.get(batch.size() - 1) == Write.CLOSE;
+            try {
+                if (writeBatch(batch)) failure = null;
+            } catch (IOException e) {
+                LOGGER.log(System.Logger.Level.WARNING, "Session could not be saved", e);
+                failure = e;
+                closeJournal();
+            }
+            batch.clear();
+        }
+        closeJournal();
+    }
+
+    /**
+     * Writes a batch and forces it to disk. Words queued before the last snapshot of the batch are part of it,
+     * so only that snapshot and the words queued after it are written. A discard drops everything queued before it.
+     * After a failed batch the journal is closed, so the words of the next batch are saved with a new snapshot
+     * of the last snapshot and every word queued after it.
+     *
+     * @param batch The queued writes, in order.
+     * @return true if something was forced to disk or deleted.
+     * @throws IOException If the files cannot be written, or words were queued for no session.
+     */
+    private boolean writeBatch(List<Write> batch) throws IOException {
+        boolean written = false;
+        int start = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            if (batch.get(i) == Write.DISCARD) {
+                deleteFiles();
+                latest = null;
+                written = true;
+                start = i + 1;
+            } else if (batch.get(i).snapshot != null) {
+                start = i;
+            }
+        }
+        if (start == batch.size()) return written;
+        SavedSession snapshot = batch.get(start).snapshot;
+        if (snapshot != null) {
+            latest = snapshot;
+            start++;
+        }
+
+        BitSet foundWords = latest == null ? null : latest.getFoundWords();
+        int score = latest == null ? 0 : latest.getScore();
+        ByteBuffer records = ByteBuffer.allocate(RECORD_SIZE * (batch.size() - start));
+        for (Write write : batch.subList(start, batch.size())) {
+            if (write.snapshot != null || write == Write.CLOSE || write == Write.DISCARD) continue;
+            records.putInt(write.wordId).putInt(write.point);
+            if (foundWords != null && !foundWords.get(write.wordId)) {
+                foundWords.set(write.wordId);
+                score += write.point;
+            }
+        }
+        records.flip();
+        if (records.hasRemaining()) {
+            if (latest == null) throw new IOException("Found words were queued without a session to save them to");
+            latest = new SavedSession(latest.getPuzzle(), latest.getWordCount(), latest.getChecksum(), score, foundWords);
+        } else if (snapshot == null) {
+            return written;
+        }
+
+        if (snapshot == null && journal == null) { // A failed batch closed the journal, the words need a new snapshot
+            writeSnapshot(latest);
+        } else {
+            if (snapshot != null) writeSnapshot(snapshot);
+            while (records.hasRemaining()) journal.write(records);
+        }
+        journal.force(false);
+        return true;
+    }
+
+    /**
+     * Replaces the snapshot atomically and resets the journal to an empty one of the new snapshot.
+     *
+     * @param session The session to write.
+     * @throws IOException If the files cannot be written.
+     */
+    private void writeSnapshot(SavedSession session) throws IOException {
+        Files.createDirectories(directory);
+        sequence = Math.max(sequence + 1, System.currentTimeMillis());
+
+        long[] words = Arrays.copyOf(session.getFoundWords().toLongArray(), (session.getWordCount() + 63) / 64);
+        ByteBuffer snapshot = ByteBuffer.allocate(SNAPSHOT_HEADER_SIZE + Long.BYTES * words.length);
+        snapshot.putInt(SNAPSHOT_MAGIC).putInt(VERSION).putLong(sequence);
+        snapshot.putInt(session.getPuzzle()).putInt(session.getWordCount()).putLong(session.getChecksum()).putInt(session.getScore());
+        snapshot.putInt(words.length);
+        for (long word : words) snapshot.putLong(word);
+        snapshot.flip();
+
+        Path temporary = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (snapshot.hasRemaining()) channel.write(snapshot);
+            channel.force(true);
+        }
+        Files.move(temporary, directory.resolve(SNAPSHOT_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        if (journal == null) {
+            journal = FileChannel.open(directory.resolve(JOURNAL_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        }
+        journal.truncate(0);
+        journal.position(0);
+        ByteBuffer header = ByteBuffer.allocate(JOURNAL_HEADER_SIZE).putInt(JOURNAL_MAGIC).putInt(VERSION).putLong(sequence);
+        header.flip();
+        while (header.hasRemaining()) journal.write(header);
+    }
+
+    /**
+     * Deletes the snapshot and the journal.
+     *
+     * @throws IOException If the files cannot be deleted.
+     */
+    private void deleteFiles() throws IOException {
+        closeJournal();
+        Files.deleteIfExists(directory.resolve(SNAPSHOT_FILE));
+        Files.deleteIfExists(directory.resolve(JOURNAL_FILE));
+    }
+
+    private void closeJournal() {
+        try {
+            if (journal != null) journal.close();
+        } catch (IOException e) {
+            // The journal was forced after every batch
+        }
+        journal = null;
+    }
+
+    /**
+     * The progress of the game being played. Its methods are called by the thread that checks the words
+     * and only queue writes.
+     */
+    public class Session {
+        private final GameData data;
+        private final int puzzle;
+        private final long checksum;
+        private final BitSet foundWords;
+        private int score;
+
+        private Session(GameData data, BitSet foundWords, int score) {
+            this.data = data;
+            this.puzzle = PuzzleCatalog.pack(data.getLettersMask(), data.getCenterLetter());
+            this.checksum = PuzzleCatalog.checksumOf(data.getWords());
+            this.foundWords = foundWords;
+            this.score = score;
+        }
+
+        /**
+         * Records an accepted word in the journal.
+         *
+         * @param word The accepted word.
+         * @param point The points earned by the word.
+         */
+        public void recordFound(String word, int point) {
+            int id = data.getWordId(word);
+            if (id < 0 || foundWords.get(id)) return;
+            foundWords.set(id);
+            score += point;
+            writes.add(new Write(id, point, null));
+        }
+
+        /**
+         * Checks if the last write of the store failed, so the found words may not be saved.
+         *
+         * @return true if the last batch could not be written.
+         */
+        public boolean isFailing() {
+            return failure != null;
+        }
+
+        /**
+         * Writes the session as the new snapshot, so the journal starts over.
+         */
+        public void save() {
+            SavedSession snapshot = new SavedSession(puzzle, data.getWordCount(), checksum, score, foundWords);
+            saved = snapshot;
+            writes.add(new Write(-1, 0, snapshot));
+        }
+    }
+
+    /**
+     * A queued write: an accepted word, a snapshot of the session, or the removal of the saved session.
+     */
+    private static final class Write {
+        private static final Write CLOSE = new Write(-1, 0, null);
+        private static final Write DISCARD = new Write(-1, 0, null);
+        private final int wordId;
+        private final int point;
+        private final SavedSession snapshot;
+
+        private Write(int wordId, int point, SavedSession snapshot) {
+            this.wordId = wordId;
+            this.point = point;
+            this.snapshot = snapshot;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.newyorktimesspellingbee.core.managers;
+
+import com.example.newyorktimesspellingbee.core.data.GameData;
+import com.example.newyorktimesspellingbee.core.results.Standing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TournamentManager runs one puzzle for many players at once. The GameData and the rules of the game are shared
+ * and never modified, and every player only updates their own found words and score, so players never wait
+ * for each other. The only counter shared by all players is a LongAdder, which does not contend.
+ * The leaderboard is built from one atomic read of every player's score and found word count, so each line
+ * shows a state the player really had, and it is rebuilt only after a word was accepted or the players changed.
+ * Only one thread rebuilds it at a time, while the others return the previous leaderboard. The players are sorted
+ * by name only when they change; ranking them after accepted words sorts primitive keys.
+ * The number of players can be capped, and players that stay idle can be expired so they make room for others.
+ */
+public class TournamentManager {
+    private final GameData data;
+    private final WordRules rules;
+    private final int maxPlayers;
+    private final Map<String, TournamentPlayer> players = new ConcurrentHashMap<>();
+    private final LongAdder acceptedCount = new LongAdder(); // Words accepted from all players, the leaderboard version.
+    private final AtomicLong rosterVersion = new AtomicLong(); // Number of players that joined or were expired.
+    private final AtomicBoolean rebuilding = new AtomicBoolean(); // Set while a thread rebuilds the leaderboard.
+    private volatile Leaderboard leaderboard = new Leaderboard(-1, -1, List.of(), List.of()); // Last built leaderboard.
+    private volatile long lastAccessNanos = System.nanoTime(); // System.nanoTime() of the last join or leaderboard.
+
+    /**
+     * Constructs a TournamentManager for a puzzle without a limit on the number of players.
+     *
+     * @param data The GameData object containing the words and letters for the game.
+     */
+    public TournamentManager(GameData data) {
+        this(data, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructs a TournamentManager for a puzzle.
+     *
+     * @param data The GameData object containing the words and letters for the game.
+     * @param maxPlayers The maximum number of players at a time.
+     */
+    public TournamentManager(GameData data, int maxPlayers) {
+        this.data = data;
+        this.maxPlayers = maxPlayers;
+        rules = new WordRules(data);
+    }
+
+    /**
+     * Returns the player with the given name, adding a new player if there is none and the tournament is not full.
+     * Players joining at the same time may exceed the maximum by a few.
+     *
+     * @param name The name of the player.
+     * @return The TournamentPlayer of the name, or null if the player is new and the tournament is full.
+     */
+    public TournamentPlayer join(String name) {
+        lastAccessNanos = System.nanoTime();
+        TournamentPlayer player = players.get(name);
+        if (player == null) {
+            if (players.size() >= maxPlayers) return null;
+            TournamentPlayer added = new TournamentPlayer(name, rules, acceptedCount);
+            player = players.putIfAbsent(name, added);
+            if (player == null) {
+                player = added;
+                rosterVersion.incrementAndGet(); // After the put, so a leaderboard of the new roster has the player
+            }
+        }
+        player.touch();
+        return player;
+    }
+
+    /**
+     * Removes the players that neither joined nor submitted a word for the given time.
+     *
+     * @param idleNanos The idle time after which a player is removed, in nanoseconds.
+     * @return The number of players removed.
+     */
+    public int expireIdlePlayers(long idleNanos) {
+        long now = System.nanoTime();
+        int removed = 0;
+        for (TournamentPlayer player : players.values()) {
+            if (now - player.getLastAccessNanos() > idleNanos && players.remove(player.getName(), player)) {
+                rosterVersion.incrementAndGet();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Returns when the tournament was used last, by a player joining or submitting a word or by a leaderboard request.
+     *
+     * @return The System.nanoTime() of the last access.
+     */
+    public long getLastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    /**
+     * Returns the player with the given name.
+     *
+     * @param name The name of the player.
+     * @return The TournamentPlayer of the name, or null if no such player joined.
+     */
+    public TournamentPlayer getPlayer(String name) {
+        return players.get(name);
+    }
+
+    public int getPlayerCount() {
+        return players.size();
+    }
+
+    public GameData getData() {
+        return data;
+    }
+
+    public int getMaximumPoint() {
+        return rules.getMaximumPoint();
+    }
+
+    /**
+     * Returns the best players, ordered by score, then by found word count and then by name.
+     * The leaderboard is cached until another word is accepted or a player joins or is expired.
+     * If another thread is rebuilding it, the previous leaderboard is returned instead of waiting.
+     *
+     * @param limit The maximum number of players to return.
+     * @return An unmodifiable list of the best standings.
+     */
+    public List<Standing> getLeaderboard(int limit) {
+        lastAccessNanos = System.nanoTime();
+        Leaderboard current = leaderboard;
+        long roster = rosterVersion.get();
+        long version = acceptedCount.sum();
+        if ((current.version != version || current.roster != roster) && rebuilding.compareAndSet(false, true)) {
+            try {
+                leaderboard = current = buildLeaderboard(version, roster, leaderboard);
+            } finally {
+                rebuilding.set(false);
+            }
+        }
+        return current.standings.subList(0, Math.min(limit, current.standings.size()));
+    }
+
+    /**
+     * Ranks all players by the progress read once from each of them.
+     * The players sorted by name are taken from the previous leaderboard unless the roster changed since.
+     *
+     * @param version The accepted word count the leaderboard is built for.
+     * @param roster The roster version the leaderboard is built for.
+     * @param previous The previous leaderboard.
+     * @return The Leaderboard of all players.
+     */
+    private Leaderboard buildLeaderboard(long version, long roster, Leaderboard previous) {
+        List<TournamentPlayer> byName = previous.byName;
+        if (previous.roster != roster) {
+            byName = new ArrayList<>(players.values());
+            byName.sort(Comparator.comparing(TournamentPlayer::getName));
+        }
+
+        long[] progress = new long[byName.size()];
+        long maxKey = 0; // Largest progress.
+        for (int i = 0; i < progress.length; i++) {
+            progress[i] = byName.get(i).getProgress();
+            maxKey = Math.max(maxKey, progress[i]);
+        }
+        int nameBits = 64 - Long.numberOfLeadingZeros(Math.max(progress.length - 1, 1));
+        int[] order = 64 - Long.numberOfLeadingZeros(maxKey) + nameBits < 64
+                ? sortByKey(progress, maxKey, nameBits) : sortByComparator(progress);
+
+        List<Standing> standings = new ArrayList<>(order.length);
+        for (int position = 0; position < order.length; position++) {
+            long playerProgress = progress[order[position]];
+            int score = TournamentPlayer.scoreOf(playerProgress);
+            int rank = position > 0 && score == standings.get(position - 1).getScore()
+                    ? standings.get(position - 1).getRank() : position + 1;
+            standings.add(new Standing(rank, byName.get(order[position]).getName(), score,
+                    TournamentPlayer.foundCountOf(playerProgress)));
+        }
+        return new Leaderboard(version, roster, byName, Collections.unmodifiableList(standings));
+    }
+
+    /**
+     * Orders the players by sorting one primitive key per player. The packed progress orders players by score
+     * and then by found word count, so its distance from the best one is in the upper bits of the key,
+     * and the position of the player by name in the lower.
+     *
+     * @param progress The progress of every player, in name order.
+     * @param maxKey The largest progress of the players.
+     * @param nameBits The number of bits of a position by name.
+     * @return The positions by name of the players, in leaderboard order.
+     */
+    private static int[] sortByKey(long[] progress, long maxKey, int nameBits) {
+        long[] keys = new long[progress.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = (maxKey - progress[i]) << nameBits | i;
+        }
+        Arrays.sort(keys);
+
+        int[] order = new int[keys.length];
+        long nameMask = (1L << nameBits) - 1;
+        for (int i = 0; i < order.length; i++) order[i] = (int) (keys[i] & nameMask);
+        return order;
+    }
+
+    /**
+     * Orders the players with a comparator, for progress too large to share a long with the name positions.
+     *
+     * @param progress The progress of every player, in name order.
+     * @return The positions by name of the players, in leaderboard order.
+     */
+    private static int[] sortByComparator(long[] progress) {
+        Integer[] order = new Integer[progress.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, Comparator.<Integer>comparingLong(i -> progress[i]).reversed()
+                .thenComparingInt(i -> i));
+        return Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * A built leaderboard together with the accepted word count and roster version it was built for,
+     * and the players of the roster sorted by name.
+     */
+    private static final class Leaderboard {
+        private final long version;
+        private final long roster;
+        private final List<TournamentPlayer> byName;
+        private final List<Standing> standings;
+
+        private Leaderboard(long version, long roster, List<TournamentPlayer> byName, List<Standing> standings) {
+            this.version = version;
+            this.roster = roster;
+            this.byName = byName;
+            this.standings = standings;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.newyorktimesspellingbee.core.managers;
+
+import com.example.newyorktimesspellingbee.core.events.WordCheckEvent;
+import com.example.newyorktimesspellingbee.core.results.CheckResult;
+import com.example.newyorktimesspellingbee.core.results.Verdict;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * TournamentPlayer is one player of a tournament. Words are checked against the rules shared by all players,
+ * and only the player's found words and score are updated, without locks: a word is marked as found with a
+ * compare-and-set on the word's bit, so a word submitted twice at the same time is accepted only once,
+ * and the score and found word count are kept in one atomic long so they are always read together.
+ */
+public class TournamentPlayer {
+    private final String name;
+    private final WordRules rules;
+    private final LongAdder acceptedCount; // Words accepted from all players of the tournament.
+    private final AtomicLongArray foundWords; // Bits of the words found so far, by word id.
+    private final AtomicLong progress = new AtomicLong(); // Score in the upper 32 bits, found word count in the lower.
+    private volatile long lastAccessNanos = System.nanoTime(); // System.nanoTime() of the last join or word.
+
+    /**
+     * Constructs a TournamentPlayer.
+     *
+     * @param name The name of the player.
+     * @param rules The rules of the tournament's game.
+     * @param acceptedCount The counter of words accepted from all players.
+     */
+    TournamentPlayer(String name, WordRules rules, LongAdder acceptedCount) {
+        this.name = name;
+        this.rules = rules;
+        this.acceptedCount = acceptedCount;
+        foundWords = new AtomicLongArray((rules.getData().getWordCount() + 63) / 64);
+    }
+
+    /**
+     * Checks a word against the game rules and adds its points if it is accepted. Words of the same player
+     * may be submitted from several threads at once. Every check is recorded as a WordCheckEvent.
+     *
+     * @param inputWord The word input by the player to be checked.
+     * @return CheckResult with the verdict, and the points earned if the word is accepted.
+     */
+    public CheckResult submit(String inputWord) {
+        WordCheckEvent event = new WordCheckEvent();
+        event.begin();
+        CheckResult result = submitWord(inputWord);
+        event.setVerdict(result.getVerdict());
+        event.setWordLength(inputWord.length());
+        event.commit();
+        return result;
+    }
+
+    /**
+     * Checks a word and adds its points, see submit().
+     *
+     * @param inputWord The word input by the player to be checked.
+     * @return CheckResult with the verdict, and the points earned if the word is accepted.
+     */
+    private CheckResult submitWord(String inputWord) {
+        int id = rules.check(inputWord);
+        if (id < 0)
+            return CheckResult.rejected(WordRules.verdictOf(id));
+
+        if (!markFound(id))
+            return CheckResult.rejected(Verdict.WORD_ALREADY_FOUND);
+
+        int point = rules.getPoint(id);
+        long updated = progress.addAndGet(((long) point << 32) | 1);
+        acceptedCount.increment();
+
+        return CheckResult.accepted(inputWord, point, scoreOf(updated));
+    }
+
+    /**
+     * Sets the bit of a word unless it is already set.
+     *
+     * @param id The game id of the word.
+     * @return true if this call found the word, false if it was found before.
+     */
+    private boolean markFound(int id) {
+        int index = id >>> 6;
+        long bit = 1L << id;
+        long bits;
+        do {
+            bits = foundWords.get(index);
+            if ((bits & bit) != 0) return false;
+        } while (!foundWords.compareAndSet(index, bits, bits | bit));
+        return true;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Records that the player was active now, see TournamentManager.expireIdlePlayers().
+     */
+    void touch() {
+        lastAccessNanos = System.nanoTime();
+    }
+
+    long getLastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    /**
+     * Returns the score and found word count of the player, packed into one long. See scoreOf() and foundCountOf().
+     *
+     * @return The packed progress.
+     */
+    long getProgress() {
+        return progress.get();
+    }
+
+    public int getScore() {
+        return scoreOf(progress.get());
+    }
+
+    public int getFoundCount() {
+        return foundCountOf(progress.get());
+    }
+
+    /**
+     * Returns the words found so far. Words found while the list is built may be left out.
+     *
+     * @return The found words, in the order of the game's word list.
+     */
+    public List<String> getFoundWords() {
+        List<String> words = new ArrayList<>();
+        List<String> gameWords = rules.getData().getWords();
+        for (int index = 0; index < foundWords.length(); index++) {
+            long bits = foundWords.get(index);
+            while (bits != 0) {
+                words.add(gameWords.get(index * 64 + Long.numberOfTrailingZeros(bits)));
+                bits &= bits - 1;
+            }
+        }
+        return words;
+    }
+
+    static int scoreOf(long progress) {
+        return (int) (progress >>> 32);
+    }
+
+    static int foundCountOf(long progress) {
+        return (int) progress;
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.newyorktimesspellingbee.core.managers;
+
+import com.example.newyorktimesspellingbee.core.data.GameData;
+import com.example.newyorktimesspellingbee.core.data.LetterMask;
+import com.example.newyorktimesspellingbee.core.results.Verdict;
+
+/**
+ * WordRules checks words against the rules of one game and holds the point value of every word of the game.
+ * It keeps no state of a player, so one instance can be shared by all players of the same game.
+ */
+final class WordRules {
+    private static final Verdict[] VERDICTS = Verdict.values();
+    private final int MIN_WORD_LENGTH = 4;
+    private final GameData data;
+    private final int[] points; // Point value of every word, by word id.
+    private final int maximumPoint;
+
+    /**
+     * Constructs the WordRules of a game.
+     *
+     * @param data The GameData object containing the words and letters for the game.
+     */
+    WordRules(GameData data) {
+        this.data = data;
+        points = new int[data.getWordCount()];
+        maximumPoint = calculateMaximumPoint();
+    }
+
+    /**
+     * Checks an input word against the rules of the game, in the order GameService.check throws its exceptions.
+     * Whether the word was found before is left to the caller. The word is looked up only once, so an accepted
+     * word is returned as its game id and a rejected word as a negative code of the broken rule, see verdictOf().
+     *
+     * @param inputWord The word input by the player to be checked.
+     * @return The game id of the word if it is one of the game's words, or a negative code of the first rule it breaks.
+     */
+    int check(String inputWord) {
+        if (!hasLegalLength(inputWord))
+            return rejection(Verdict.ILLEGAL_WORD_LENGTH);
+        if (!containsCenterLetter(inputWord))
+            return rejection(Verdict.WORD_DOES_NOT_CONTAIN_CENTER_LETTER);
+        if (containsIllegalLetter(inputWord))
+            return rejection(Verdict.WORD_CONTAINS_ILLEGAL_LETTER);
+
+        int id = data.getWordId(inputWord);
+        return id >= 0 ? id : rejection(Verdict.DICTIONARY_DOES_NOT_CONTAIN_WORD);
+    }
+
+    /**
+     * Returns the verdict of a result of check().
+     *
+     * @param result The game id or negative rejection code returned by check().
+     * @return ACCEPTED for a game id, otherwise the rule the word breaks.
+     */
+    static Verdict verdictOf(int result) {
+        return result >= 0 ? Verdict.ACCEPTED : VERDICTS[-result];
+    }
+
+    /**
+     * Encodes a rejection verdict as the negative code returned by check().
+     *
+     * @param verdict The rule the word breaks.
+     * @return The negative code of the verdict.
+     */
+    private static int rejection(Verdict verdict) {
+        return -verdict.ordinal();
+    }
+
+    GameData getData() {
+        return data;
+    }
+
+    /**
+     * Returns the point value of a word.
+     *
+     * @param id The game id of the word.
+     * @return The points the word earns.
+     */
+    int getPoint(int id) {
+        return points[id];
+    }
+
+    int getMaximumPoint() {
+        return maximumPoint;
+    }
+
+    /**
+     * Checks if the input word contains any illegal letters that are not part of the game data.
+     *
+     * @param inputWord The word to be checked for illegal letters.
+     * @return true if the input word contains letters not in the game data.
+     */
+    private boolean containsIllegalLetter(String inputWord) {
+        int lettersMask = data.getLettersMask();
+
+        for (int i = 0; i < inputWord.length(); i++) {
+            if ((LetterMask.bit(inputWord.charAt(i)) & lettersMask) == 0)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the input word contains the center letter required in the game.
+     *
+     * @param inputWord The word to be checked for the center letter.
+     * @return true if the input word contains the center letter.
+     */
+    private boolean containsCenterLetter(String inputWord) {
+        return inputWord.indexOf(data.getCenterLetter()) >= 0;
+    }
+
+    /**
+     * Checks if the length of the input word is at least the minimum word length required in the game.
+     *
+     * @param inputWord The word to be checked for length.
+     * @return true if the input word is not shorter than the minimum required length.
+     */
+    private boolean hasLegalLength(String inputWord) {
+        return inputWord.length() >= MIN_WORD_LENGTH;
+    }
+
+    /**
+     * Calculates the maximum possible point score for the current game configuration.
+     * This is based on the point values of all words available in the game data,
+     * which are stored by word id on the way.
+     *
+     * @return An integer representing the maximum points that can be earned in the game.
+     */
+    private int calculateMaximumPoint() {
+        int point = 0;
+
+        for (int id = 0; id < data.getWordCount(); id++) {
+            points[id] = LetterMask.pointOf(data.getWordLength(id), data.isPangram(id));
+            point += points[id];
+        }
+
+        return point;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.newyorktimesspellingbee.core.results;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * CheckResult is the immutable result of checking a word without exceptions.
+ * Rejections carry no word or points, so one shared instance per verdict is reused for all of them
+ * and only accepted words allocate a result.
+ */
+public class CheckResult {
+    private static final Map<Verdict, CheckResult> REJECTIONS = new EnumMap<>(Verdict.class);
+
+    static {
+        for (Verdict verdict : Verdict.values()) {
+            if (verdict != Verdict.ACCEPTED) {
+                REJECTIONS.put(verdict, new CheckResult(verdict, null, 0, 0));
+            }
+        }
+    }
+
+    private final Verdict verdict;
+    private final String word;
+    private final int point;
+    private final int currentPoint;
+
+    private CheckResult(Verdict verdict, String word, int point, int currentPoint) {
+        this.verdict = verdict;
+        this.word = word;
+        this.point = point;
+        this.currentPoint = currentPoint;
+    }
+
+    /**
+     * Creates the result of an accepted word.
+     *
+     * @param word The accepted word.
+     * @param point The points earned by the word.
+     * @param currentPoint The total points after the word.
+     * @return CheckResult with the ACCEPTED verdict.
+     */
+    public static CheckResult accepted(String word, int point, int currentPoint) {
+        return new CheckResult(Verdict.ACCEPTED, word, point, currentPoint);
+    }
+
+    /**
+     * Returns the shared result of a rejection.
+     *
+     * @param verdict The rule the word breaks.
+     * @return The CheckResult of the verdict.
+     */
+    public static CheckResult rejected(Verdict verdict) {
+        return REJECTIONS.get(verdict);
+    }
+
+    public boolean isAccepted() {
+        return verdict == Verdict.ACCEPTED;
+    }
+
+    public Verdict getVerdict() {
+        return verdict;
+    }
+
+    public String getMessage() {
+        return verdict.getMessage();
+    }
+
+    public String getWord() {
+        return word;
+    }
+
+    public int getPoint() {
+        return point;
+    }
+
+    public int getCurrentPoint() {
+        return currentPoint;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.newyorktimesspellingbee.core.results;
+
+/**
+ * GenerationStatistics describes how random games were created: how many candidates were filtered,
+ * how many of them were accepted, why the others were rejected, how many known rejected candidates
+ * were skipped without being filtered and how many letter sets were swept for their acceptable center letters.
+ */
+public class GenerationStatistics {
+    private final long attemptCount;      // Number of random candidates filtered.
+    private final long acceptedCount;     // Number of random candidates accepted.
+    private final long[] rejectionCounts; // Number of random candidates rejected, by Rejection ordinal.
+    private final long skippedCount;      // Number of known rejected candidates drawn and skipped.
+    private final long sweptCount;        // Number of seven letter sets whose center letters were counted in one sweep.
+    private final int cachedCount;        // Number of candidates known to be rejected.
+
+    public GenerationStatistics(long attemptCount, long acceptedCount, long[] rejectionCounts, long skippedCount,
+                                long sweptCount, int cachedCount) {
+        this.attemptCount = attemptCount;
+        this.acceptedCount = acceptedCount;
+        this.rejectionCounts = rejectionCounts.clone();
+        this.skippedCount = skippedCount;
+        this.sweptCount = sweptCount;
+        this.cachedCount = cachedCount;
+    }
+
+    public long getAttemptCount() {
+        return attemptCount;
+    }
+
+    public long getAcceptedCount() {
+        return acceptedCount;
+    }
+
+    public long getRejectionCount(Rejection rejection) {
+        return rejectionCounts[rejection.ordinal()];
+    }
+
+    public long getSkippedCount() {
+        return skippedCount;
+    }
+
+    public long getSweptCount() {
+        return sweptCount;
+    }
+
+    public int getCachedCount() {
+        return cachedCount;
+    }
+
+    /**
+     * Returns the share of filtered candidates that were accepted.
+     *
+     * @return The acceptance rate between 0 and 1, or 0 if no candidate was filtered.
+     */
+    public double getAcceptanceRate() {
+        return attemptCount == 0 ? 0 : (double) acceptedCount / attemptCount;
+    }
+
+    /**
+     * Returns the average number of candidates filtered per accepted game.
+     *
+     * @return The attempts per game, or 0 if no game was accepted.
+     */
+    public double getAttemptsPerGame() {
+        return acceptedCount == 0 ? 0 : (double) attemptCount / acceptedCount;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder statistics = new StringBuilder();
+        statistics.append(String.format("%d attempts, %d accepted (%.1f%%), %.2f attempts per game%n",
+                attemptCount, acceptedCount, getAcceptanceRate() * 100, getAttemptsPerGame()));
+        for (Rejection rejection : Rejection.values()) {
+            statistics.append(String.format("  %s: %d%n", rejection, getRejectionCount(rejection)));
+        }
+        statistics.append(String.format("  skipped: %d, swept: %d, cached: %d%n", skippedCount, sweptCount, cachedCount));
+        return statistics.toString();
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.newyorktimesspellingbee.core.results;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * LoadReport describes how the sources of a dictionary were loaded: how many words each source had,
+ * how many of them were new, how long it took and which error stopped it, if any.
+ */
+public class LoadReport {
+    private final List<Source> sources;
+    private final int wordCount;     // Number of distinct words loaded from all sources.
+    private final Duration duration; // Time it took to load all sources.
+
+    public LoadReport(List<Source> sources, int wordCount, Duration duration) {
+        this.sources = Collections.unmodifiableList(sources);
+        this.wordCount = wordCount;
+        this.duration = duration;
+    }
+
+    public List<Source> getSources() {
+        return sources;
+    }
+
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Checks if every source was read to its end.
+     *
+     * @return true if no source reported an error.
+     */
+    public boolean isComplete() {
+        return sources.stream().allMatch(source -> source.getError() == null);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%d words in %d ms%n", wordCount, duration.toMillis()));
+        for (Source source : sources) {
+            report.append(String.format("  %s: %d words, %d new, %d ms%s%n", source.getName(), source.getReadCount(),
+                    source.getAddedCount(), source.getDuration().toMillis(),
+                    source.getError() == null ? "" : ", error: " + source.getError()));
+        }
+        return report.toString();
+    }
+
+    /**
+     * The load result of a single source.
+     */
+    public static class Source {
+        private final String name;
+        private final int readCount;     // Number of words read from the source.
+        private final int addedCount;    // Number of words that no earlier source had.
+        private final Duration duration;
+        private final String error;      // Message of the error that stopped reading, or null.
+
+        public Source(String name, int readCount, int addedCount, Duration duration, String error) {
+            this.name = name;
+            this.readCount = readCount;
+            this.addedCount = addedCount;
+            this.duration = duration;
+            this.error = error;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getReadCount() {
+            return readCount;
+        }
+
+        public int getAddedCount() {
+            return addedCount;
+        }
+
+        public Duration getDuration() {
+            return duration;
+        }
+
+        public String getError() {
+            return error;
+        }
+    }
+}
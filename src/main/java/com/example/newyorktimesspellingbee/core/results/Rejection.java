@@ -0,0 +1,11 @@
+package com.example.newyorktimesspellingbee.core.results;
+
+/**
+ * Rejection is the reason a candidate game is rejected, the first game creation rule it breaks.
+ * Each rejection corresponds to one of the exceptions thrown by GameCreatorService.create.
+ */
+public enum Rejection {
+    PANGRAM_NOT_FOUND,
+    ILLEGAL_WORD_COUNT,
+    ILLEGAL_POINT_RANGE
+}
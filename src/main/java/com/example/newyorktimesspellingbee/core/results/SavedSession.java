@@ -0,0 +1,80 @@
+package com.example.newyorktimesspellingbee.core.results;
+
+import com.example.newyorktimesspellingbee.core.data.GameData;
+import com.example.newyorktimesspellingbee.core.data.LetterMask;
+import com.example.newyorktimesspellingbee.core.data.PuzzleCatalog;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * SavedSession is the progress of a game as it is saved: the packed puzzle, see PuzzleCatalog.pack(),
+ * the ids of the found words and the score. The word count and the checksum of the game's word list are kept as well,
+ * so a session saved with another dictionary, whose word ids mean other words, is not resumed.
+ */
+public class SavedSession {
+    private final int puzzle;
+    private final int wordCount;
+    private final long checksum; // Checksum of the game's word list, see PuzzleCatalog.checksumOf().
+    private final int score;
+    private final BitSet foundWords;
+
+    public SavedSession(int puzzle, int wordCount, long checksum, int score, BitSet foundWords) {
+        this.puzzle = puzzle;
+        this.wordCount = wordCount;
+        this.checksum = checksum;
+        this.score = score;
+        this.foundWords = (BitSet) foundWords.clone();
+    }
+
+    public int getPuzzle() {
+        return puzzle;
+    }
+
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    public long getChecksum() {
+        return checksum;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public BitSet getFoundWords() {
+        return (BitSet) foundWords.clone();
+    }
+
+    /**
+     * Returns the letters of the puzzle, with the center letter in the middle and the others in alphabetical order.
+     *
+     * @return The letters to create the game of the session with.
+     */
+    public String getLetters() {
+        char centerLetter = PuzzleCatalog.centerLetterOf(puzzle);
+        String otherLetters = LetterMask.letters(PuzzleCatalog.maskOf(puzzle) & ~LetterMask.of(String.valueOf(centerLetter)));
+        return otherLetters.substring(0, otherLetters.length() / 2) + centerLetter + otherLetters.substring(otherLetters.length() / 2);
+    }
+
+    /**
+     * Returns the found words of the session in the given game.
+     *
+     * @param data The game created from the letters of the session.
+     * @return The found words in the order of the game's word list, or null if the game is not the saved one.
+     */
+    public List<String> getFoundWords(GameData data) {
+        if (data.getWordCount() != wordCount
+                || PuzzleCatalog.pack(data.getLettersMask(), data.getCenterLetter()) != puzzle) return null;
+        List<String> gameWords = data.getWords();
+        if (PuzzleCatalog.checksumOf(gameWords) != checksum) return null;
+
+        List<String> words = new ArrayList<>(foundWords.cardinality());
+        for (int id = foundWords.nextSetBit(0); id >= 0; id = foundWords.nextSetBit(id + 1)) {
+            words.add(gameWords.get(id));
+        }
+        return words;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.newyorktimesspellingbee.core.results;
+
+/**
+ * Standing is one line of a tournament leaderboard: the rank, score and found word count of a player.
+ * Players with the same score share a rank.
+ */
+public class Standing {
+    private final int rank;
+    private final String name;
+    private final int score;
+    private final int foundCount;
+
+    public Standing(int rank, String name, int score, int foundCount) {
+        this.rank = rank;
+        this.name = name;
+        this.score = score;
+        this.foundCount = foundCount;
+    }
+
+    public int getRank() {
+        return rank;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getFoundCount() {
+        return foundCount;
+    }
+}
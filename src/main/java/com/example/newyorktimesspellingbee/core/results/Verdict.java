@@ -0,0 +1,26 @@
+package com.example.newyorktimesspellingbee.core.results;
+
+import com.example.newyorktimesspellingbee.core.constants.Messages;
+
+/**
+ * Verdict is the outcome of checking a word, either accepted or the first game rule the word breaks.
+ * Each rejection verdict corresponds to one of the exceptions thrown by GameService.check.
+ */
+public enum Verdict {
+    ACCEPTED(""),
+    ILLEGAL_WORD_LENGTH(Messages.ILLEGAL_WORD_LENGTH),
+    WORD_DOES_NOT_CONTAIN_CENTER_LETTER(Messages.WORD_DOES_NOT_CONTAIN_CENTER_LETTER),
+    WORD_CONTAINS_ILLEGAL_LETTER(Messages.WORD_CONTAINS_ILLEGAL_LETTER),
+    DICTIONARY_DOES_NOT_CONTAIN_WORD(Messages.DICTIONARY_DOES_NOT_CONTAIN_WORD),
+    WORD_ALREADY_FOUND(Messages.WORD_ALREADY_FOUND);
+
+    private final String message;
+
+    Verdict(String message) {
+        this.message = message;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -1,15 +1,20 @@
 package com.example.newyorktimesspellingbee.models;
 
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 
 /**
  * The MenuModel class represents the model for the menu interface of the Spelling Bee game.
- * It holds properties related to the letters input and error messages.
+ * It holds properties related to the letters input, error messages, whether games can be started yet
+ * and whether a saved game can be resumed.
  */
 public class MenuModel {
     private final StringProperty lettersProperty = new SimpleStringProperty();
     private final StringProperty errorProperty = new SimpleStringProperty();
+    private final BooleanProperty readyProperty = new SimpleBooleanProperty();
+    private final BooleanProperty resumableProperty = new SimpleBooleanProperty();
 
     public String getLettersPropertyValue() {
         return lettersProperty.getValue();
@@ -26,4 +31,20 @@ public class MenuModel {
     public void setErrorPropertyValue(String val) {
         errorProperty.setValue(val);
     }
+
+    public BooleanProperty getReadyProperty() {
+        return readyProperty;
+    }
+
+    public void setReadyPropertyValue(boolean val) {
+        readyProperty.setValue(val);
+    }
+
+    public BooleanProperty getResumableProperty() {
+        return resumableProperty;
+    }
+
+    public void setResumablePropertyValue(boolean val) {
+        resumableProperty.setValue(val);
+    }
 }
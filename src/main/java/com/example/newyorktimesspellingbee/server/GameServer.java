@@ -0,0 +1,697 @@
+package com.example.newyorktimesspellingbee.server;
+
+import com.example.newyorktimesspellingbee.core.constants.Messages;
+import com.example.newyorktimesspellingbee.core.data.BinaryDictionaryReader;
+import com.example.newyorktimesspellingbee.core.data.DataReader;
+import com.example.newyorktimesspellingbee.core.data.GameData;
+import com.example.newyorktimesspellingbee.core.data.LetterMask;
+import com.example.newyorktimesspellingbee.core.data.MappedTxtReader;
+import com.example.newyorktimesspellingbee.core.data.PuzzleCatalog;
+import com.example.newyorktimesspellingbee.core.data.WordFilter;
+import com.example.newyorktimesspellingbee.core.exceptions.*;
+import com.example.newyorktimesspellingbee.core.managers.CancellationToken;
+import com.example.newyorktimesspellingbee.core.managers.DailyPuzzleScheduler;
+import com.example.newyorktimesspellingbee.core.managers.GameCreatorManager;
+import com.example.newyorktimesspellingbee.core.managers.GameCreatorService;
+import com.example.newyorktimesspellingbee.core.managers.GenerationBudget;
+import com.example.newyorktimesspellingbee.core.managers.TournamentManager;
+import com.example.newyorktimesspellingbee.core.managers.TournamentPlayer;
+import com.example.newyorktimesspellingbee.core.results.CheckResult;
+import com.example.newyorktimesspellingbee.core.results.Standing;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * GameServer runs Spelling Bee games without the JavaFX interface, as a JSON API on the JDK's built-in HTTP server.
+ * Every request runs on its own virtual thread if the JDK has them, otherwise on a cached thread pool.
+ * Sessions of the same puzzle share one GameData, so thousands of sessions only hold their found words and points.
+ * Sessions, tournaments and tournament players that are not used for the idle timeout are expired by a periodic sweep,
+ * and once the maximum number of sessions, tournaments or players of a tournament is reached, new ones are refused
+ * with 503 Service Unavailable until the sweep makes room. A slot is reserved before a session or tournament is created
+ * and released when it is removed, so concurrent requests never exceed the maximum.
+ *
+ * Endpoints:
+ * POST /games?letters=abcdefg creates a session, of a random puzzle if no letters are given.
+ * POST /games?date=2024-01-01 creates a session of the daily puzzle of the date, at most
+ * DailyPuzzleScheduler.MAX_DAYS_AHEAD days after today.
+ * GET /games/{id} returns the state of a session.
+ * POST /games/{id}/words submits the word in the request body. Bodies longer than MAX_WORD_BYTES are refused
+ * with 413 Payload Too Large.
+ * DELETE /games/{id} ends a session.
+ * POST /tournaments?letters=abcdefg creates a tournament, of a random puzzle if no letters are given,
+ * or with ?date=2024-01-01 of the daily puzzle of the date.
+ * GET /tournaments/{id}?limit=10 returns the puzzle and leaderboard of a tournament.
+ * POST /tournaments/{id}/players/{name}/words submits the word in the request body for a player,
+ * who joins the tournament with their first word.
+ */
+public class GameServer implements AutoCloseable {
+    private static final int DEFAULT_PORT = 8080;
+    private static final int BACKLOG = 1024;
+    private static final String GAMES_PATH = "/games";
+    private static final String WORDS_PATH = "/words";
+    private static final String TOURNAMENTS_PATH = "/tournaments";
+    private static final String PLAYERS_PATH = "/players/";
+    private static final int DEFAULT_LEADERBOARD_LIMIT = 10;
+    private static final int MAX_WORD_BYTES = 64; // Longest request body of a submitted word.
+    private static final long DAILY_SEED = 20240101L;
+    private static final LocalDate DAILY_FIRST_DAY = LocalDate.of(2024, 1, 1);
+    private static final int PRECOMPUTED_DAYS = 365;
+    private static final int DEFAULT_MAX_SESSIONS = 100_000;
+    private static final int DEFAULT_MAX_TOURNAMENTS = 1_000;
+    private static final int DEFAULT_MAX_PLAYERS = 10_000;
+    private static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(30);
+    private static final GenerationBudget RANDOM_BUDGET = new GenerationBudget(1000, Duration.ofSeconds(2)); // Search of a random game.
+
+    private final GameCreatorService creatorService;
+    private final DailyPuzzleScheduler dailyScheduler;
+    private final HttpServer httpServer;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService sweeper;
+    private final int maxSessions;
+    private final int maxTournaments;
+    private final int maxPlayers;          // Maximum number of players of one tournament.
+    private final long idleNanos;          // Idle time after which sessions, tournaments and players are expired.
+    private final long sweepIntervalMillis;
+    private final Map<String, GameSession> sessions = new ConcurrentHashMap<>();
+    private final Map<Integer, GameData> games = new ConcurrentHashMap<>(); // Shared game data, by packed puzzle.
+    private final Map<String, TournamentManager> tournaments = new ConcurrentHashMap<>();
+    private final AtomicInteger sessionSlots = new AtomicInteger();    // Sessions created and not removed yet.
+    private final AtomicInteger tournamentSlots = new AtomicInteger(); // Tournaments created and not removed yet.
+
+    /**
+     * Constructs a GameServer creating games from the given dictionary. The bundled puzzle catalog is used
+     * for random games if it was generated from the dictionary.
+     *
+     * @param dataReader The DataReader of the dictionary.
+     * @param port The port to listen on, or 0 to pick a free port.
+     * @throws IOException If the port cannot be bound.
+     */
+    public GameServer(DataReader dataReader, int port) throws IOException {
+        this(dataReader, port, DEFAULT_MAX_SESSIONS, DEFAULT_MAX_TOURNAMENTS, DEFAULT_MAX_PLAYERS, DEFAULT_IDLE_TIMEOUT);
+    }
+
+    /**
+     * Constructs a GameServer with the given limits. The idle sweep runs four times per idle timeout.
+     *
+     * @param dataReader The DataReader of the dictionary.
+     * @param port The port to listen on, or 0 to pick a free port.
+     * @param maxSessions The maximum number of sessions at a time.
+     * @param maxTournaments The maximum number of tournaments at a time.
+     * @param maxPlayers The maximum number of players of one tournament at a time.
+     * @param idleTimeout The time after which an unused session, tournament or player is expired.
+     * @throws IOException If the port cannot be bound.
+     */
+    public GameServer(DataReader dataReader, int port, int maxSessions, int maxTournaments, int maxPlayers,
+                      Duration idleTimeout) throws IOException {
+        this.maxSessions = maxSessions;
+        this.maxTournaments = maxTournaments;
+        this.maxPlayers = maxPlayers;
+        idleNanos = idleTimeout.toNanos();
+        sweepIntervalMillis = Math.max(idleTimeout.toMillis() / 4, 1);
+
+        PuzzleCatalog puzzleCatalog = PuzzleCatalog.load();
+        if (puzzleCatalog != null && !puzzleCatalog.isFor(dataReader.read())) puzzleCatalog = null;
+        creatorService = new GameCreatorManager(new WordFilter(), dataReader, puzzleCatalog);
+        dailyScheduler = new DailyPuzzleScheduler(new WordFilter(), dataReader, puzzleCatalog, DAILY_SEED, DAILY_FIRST_DAY);
+
+        executor = newRequestExecutor();
+        httpServer = HttpServer.create(new InetSocketAddress(port), BACKLOG);
+        httpServer.createContext(GAMES_PATH, this::handle);
+        httpServer.createContext(TOURNAMENTS_PATH, this::handleTournament);
+        httpServer.setExecutor(executor);
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "idle-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns an executor that runs every task on a new virtual thread. The JDK this project is built for has
+     * no virtual threads, so the factory is looked up at runtime and a cached thread pool is used without it.
+     *
+     * @return An ExecutorService for requests.
+     */
+    static ExecutorService newRequestExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException | UnsupportedOperationException e) {
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "game-server");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Returns the reader of the bundled dictionary, the same way the application picks it.
+     *
+     * @return The binary dictionary reader if data.bin is available, otherwise a reader of data.txt.
+     */
+    public static DataReader bundledDataReader() {
+        return BinaryDictionaryReader.isAvailable() ? new BinaryDictionaryReader() : new MappedTxtReader();
+    }
+
+    public void start() {
+        httpServer.start();
+        sweeper.scheduleWithFixedDelay(this::expireIdle, sweepIntervalMillis, sweepIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    public int getTournamentCount() {
+        return tournaments.size();
+    }
+
+    /**
+     * Returns the number of distinct puzzles the sessions were created from.
+     *
+     * @return The number of shared GameData instances.
+     */
+    public int getGameCount() {
+        return games.size();
+    }
+
+    public DailyPuzzleScheduler getDailyScheduler() {
+        return dailyScheduler;
+    }
+
+    /**
+     * Removes the sessions, tournaments and tournament players that were not used for the idle timeout,
+     * and the shared game data of puzzles that no session or tournament plays any more.
+     * It runs periodically once the server is started.
+     */
+    public void expireIdle() {
+        long now = System.nanoTime();
+        sessions.forEach((id, session) -> {
+            if (now - session.getLastAccessNanos() > idleNanos && sessions.remove(id, session)) sessionSlots.decrementAndGet();
+        });
+        tournaments.forEach((id, tournament) -> {
+            if (now - tournament.getLastAccessNanos() > idleNanos && tournaments.remove(id, tournament)) {
+                tournamentSlots.decrementAndGet();
+            }
+        });
+
+        Set<GameData> played = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (GameSession session : sessions.values()) played.add(session.getData());
+        for (TournamentManager tournament : tournaments.values()) {
+            tournament.expireIdlePlayers(idleNanos);
+            played.add(tournament.getData());
+        }
+        games.values().removeIf(data -> !played.contains(data));
+    }
+
+    /**
+     * Routes a request of the /games context to its endpoint.
+     *
+     * @param exchange The HTTP exchange of the request.
+     * @throws IOException If the response cannot be written.
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath().substring(GAMES_PATH.length());
+
+            if (path.isEmpty() || path.equals("/")) {
+                if (method.equals("POST")) createGame(exchange);
+                else sendError(exchange, 405, Messages.METHOD_NOT_ALLOWED);
+                return;
+            }
+
+            boolean words = path.endsWith(WORDS_PATH);
+            int idEnd = words ? path.length() - WORDS_PATH.length() : path.length();
+            String id = idEnd > 1 ? path.substring(1, idEnd) : ""; // "/words" has no session id
+            GameSession session = id.isEmpty() ? null : sessions.get(id);
+            if (session == null) {
+                sendError(exchange, 404, Messages.SESSION_NOT_FOUND);
+                return;
+            }
+
+            session.touch();
+            if (words && method.equals("POST")) {
+                submitWord(exchange, session);
+            } else if (!words && method.equals("GET")) {
+                send(exchange, 200, stateOf(session));
+            } else if (!words && method.equals("DELETE")) {
+                if (sessions.remove(id, session)) sessionSlots.decrementAndGet();
+                send(exchange, 200, stateOf(session));
+            } else {
+                sendError(exchange, 405, Messages.METHOD_NOT_ALLOWED);
+            }
+        }
+    }
+
+    /**
+     * Routes a request of the /tournaments context to its endpoint.
+     *
+     * @param exchange The HTTP exchange of the request.
+     * @throws IOException If the response cannot be written.
+     */
+    private void handleTournament(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath().substring(TOURNAMENTS_PATH.length());
+
+            if (path.isEmpty() || path.equals("/")) {
+                if (method.equals("POST")) createTournament(exchange);
+                else sendError(exchange, 405, Messages.METHOD_NOT_ALLOWED);
+                return;
+            }
+
+            int players = path.indexOf(PLAYERS_PATH);
+            int idEnd = players < 0 ? path.length() : players;
+            String id = idEnd > 1 ? path.substring(1, idEnd) : ""; // "/players/..." has no tournament id
+            TournamentManager tournament = id.isEmpty() ? null : tournaments.get(id);
+            if (tournament == null) {
+                sendError(exchange, 404, Messages.TOURNAMENT_NOT_FOUND);
+            } else if (players < 0 && method.equals("GET")) {
+                String limit = queryParameter(exchange, "limit");
+                try {
+                    send(exchange, 200, leaderboardOf(id, tournament, limit == null ? DEFAULT_LEADERBOARD_LIMIT : Integer.parseInt(limit)));
+                } catch (NumberFormatException e) {
+                    sendError(exchange, 400, e.getMessage());
+                }
+            } else if (players >= 0 && path.endsWith(WORDS_PATH) && method.equals("POST")) {
+                int nameStart = players + PLAYERS_PATH.length();
+                int nameEnd = path.length() - WORDS_PATH.length();
+                TournamentPlayer player = nameStart < nameEnd ? tournament.join(path.substring(nameStart, nameEnd)) : null;
+                if (player != null) {
+                    String word = readWord(exchange);
+                    if (word != null) send(exchange, 200, resultOf(player.submit(word)));
+                } else if (nameStart < nameEnd) {
+                    sendUnavailable(exchange, Messages.TOURNAMENT_FULL);
+                } else {
+                    sendError(exchange, 404, Messages.PLAYER_NOT_FOUND);
+                }
+            } else {
+                sendError(exchange, 405, Messages.METHOD_NOT_ALLOWED);
+            }
+        }
+    }
+
+    /**
+     * Creates a session of the puzzle given by the letters query parameter, or of a random puzzle.
+     *
+     * @param exchange The HTTP exchange of the request.
+     * @throws IOException If the response cannot be written.
+     */
+    private void createGame(HttpExchange exchange) throws IOException {
+        if (!reserve(sessionSlots, maxSessions)) {
+            sendUnavailable(exchange, Messages.TOO_MANY_SESSIONS);
+            return;
+        }
+        GameData data = null;
+        try {
+            data = requestedGame(exchange);
+        } finally {
+            if (data == null) sessionSlots.decrementAndGet(); // No game, the slot is released
+        }
+        if (data == null) return;
+
+        GameSession session = new GameSession(UUID.randomUUID().toString(), data);
+        sessions.put(session.getId(), session);
+        send(exchange, 201, stateOf(session));
+    }
+
+    /**
+     * Creates a tournament of the puzzle given by the letters query parameter, or of a random puzzle.
+     *
+     * @param exchange The HTTP exchange of the request.
+     * @throws IOException If the response cannot be written.
+     */
+    private void createTournament(HttpExchange exchange) throws IOException {
+        if (!reserve(tournamentSlots, maxTournaments)) {
+            sendUnavailable(exchange, Messages.TOO_MANY_TOURNAMENTS);
+            return;
+        }
+        GameData data = null;
+        try {
+            data = requestedGame(exchange);
+        } finally {
+            if (data == null) tournamentSlots.decrementAndGet(); // No game, the slot is released
+        }
+        if (data == null) return;
+
+        String id = UUID.randomUUID().toString();
+        TournamentManager tournament = new TournamentManager(data, maxPlayers);
+        tournaments.put(id, tournament);
+        send(exchange, 201, leaderboardOf(id, tournament, DEFAULT_LEADERBOARD_LIMIT));
+    }
+
+    /**
+     * Reserves a slot for a new session or tournament, unless all slots are taken.
+     *
+     * @param slots The number of taken slots.
+     * @param max The number of slots.
+     * @return true if a slot was reserved, false if the maximum is reached.
+     */
+    private static boolean reserve(AtomicInteger slots, int max) {
+        int taken;
+        do {
+            taken = slots.get();
+            if (taken >= max) return false;
+        } while (!slots.compareAndSet(taken, taken + 1));
+        return true;
+    }
+
+    /**
+     * Returns the shared game data of the puzzle given by the letters query parameter, the daily puzzle of the date
+     * query parameter, or a random puzzle. If the puzzle cannot be played, the error is sent as the response.
+     * A random puzzle that cannot be found within RANDOM_BUDGET is refused as unavailable.
+     *
+     * @param exchange The HTTP exchange of the request.
+     * @return The shared GameData, or null if the error was sent.
+     * @throws IOException If the error response cannot be written.
+     */
+    private GameData requestedGame(HttpExchange exchange) throws IOException {
+        String letters = queryParameter(exchange, "letters");
+        String date = queryParameter(exchange, "date");
+        try {
+            if (date != null) return share(dailyScheduler.getGame(LocalDate.parse(date)));
+            return letters == null ? share(randomGame()) : sharedGame(letters.toLowerCase());
+        } catch (IllegalLettersLengthException | NotUniqueLettersException | IllegalLetterException |
+                 DateTimeParseException | IllegalArgumentException e) {
+            sendError(exchange, 400, e.getMessage());
+        } catch (PangramNotFoundException | IllegalWordCountException | IllegalPointRangeException e) {
+            sendError(exchange, 422, e.getMessage());
+        } catch (GenerationBudgetExhaustedException | GenerationCancelledException e) {
+            sendUnavailable(exchange, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            sendUnavailable(exchange, Messages.GAME_NOT_CREATED);
+        }
+        return null;
+    }
+
+    /**
+     * Searches for a random game within RANDOM_BUDGET, retrying rejected candidates.
+     *
+     * @return GameData of the random game, see GameCreatorService.create(GenerationBudget, CancellationToken).
+     * @throws GenerationBudgetExhaustedException If no candidate with a pangram was found within the budget.
+     * @throws GenerationCancelledException If the search was cancelled.
+     * @throws InterruptedException If the request thread was interrupted while waiting, which cancels the search.
+     */
+    private GameData randomGame() throws GenerationBudgetExhaustedException, GenerationCancelledException, InterruptedException {
+        CancellationToken token = new CancellationToken();
+        CompletableFuture<GameData> future = creatorService.create(RANDOM_BUDGET, token);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            token.cancel();
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof GenerationBudgetExhaustedException exhausted) throw exhausted;
+            if (e.getCause() instanceof GenerationCancelledException cancelled) throw cancelled;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Returns the shared game data of the given letters, creating it if no session used the puzzle yet.
+     *
+     * @param letters The letters of the game, with the center letter in the middle.
+     * @return The shared GameData of the puzzle.
+     * @throws PangramNotFoundException If no pangram words are found.
+     * @throws IllegalWordCountException If the word count is not within the acceptable range.
+     * @throws IllegalPointRangeException If the total points are not within the acceptable range.
+     * @throws IllegalLettersLengthException If the letters are not 7 characters long.
+     * @throws NotUniqueLettersException If the letters are not unique.
+     * @throws IllegalLetterException If the letters are not English letters.
+     */
+    private GameData sharedGame(String letters) throws PangramNotFoundException, IllegalWordCountException, IllegalPointRangeException,
+                                                       IllegalLettersLengthException, NotUniqueLettersException, IllegalLetterException {
+        int mask = LetterMask.of(letters);
+        if (letters.length() == 7 && LetterMask.size(mask) == 7 && (mask & LetterMask.INVALID) == 0) {
+            GameData data = games.get(PuzzleCatalog.pack(mask, letters.charAt(letters.length() / 2)));
+            if (data != null) return data;
+        }
+        return share(creatorService.create(letters));
+    }
+
+    /**
+     * Shares game data with the sessions of the same puzzle. If another session already created the puzzle,
+     * its game data is used and the given one is dropped.
+     *
+     * @param data The game data of a new session.
+     * @return The shared GameData of the puzzle.
+     */
+    private GameData share(GameData data) {
+        GameData shared = games.putIfAbsent(PuzzleCatalog.pack(data.getLettersMask(), data.getCenterLetter()), data);
+        return shared != null ? shared : data;
+    }
+
+    /**
+     * Submits the word in the request body to a session.
+     *
+     * @param exchange The HTTP exchange of the request.
+     * @param session The session of the game.
+     * @throws IOException If the request cannot be read or the response cannot be written.
+     */
+    private void submitWord(HttpExchange exchange, GameSession session) throws IOException {
+        String word = readWord(exchange);
+        if (word != null) send(exchange, 200, resultOf(session.submit(word)));
+    }
+
+    /**
+     * Reads the word in the request body. At most MAX_WORD_BYTES are read, so a body that is longer,
+     * or announces it is, is refused with 413 Payload Too Large.
+     *
+     * @param exchange The HTTP exchange of the request.
+     * @return The trimmed and lowercased word, or null if the body is too long and the error was sent.
+     * @throws IOException If the request cannot be read or the error response cannot be written.
+     */
+    private String readWord(HttpExchange exchange) throws IOException {
+        String contentLength = exchange.getRequestHeaders().getFirst("Content-Length");
+        byte[] body = null;
+        try (InputStream in = exchange.getRequestBody()) {
+            if (contentLength == null || isWithinWordLimit(contentLength)) body = in.readNBytes(MAX_WORD_BYTES + 1);
+        }
+        if (body == null || body.length > MAX_WORD_BYTES) {
+            sendError(exchange, 413, Messages.WORD_TOO_LONG);
+            return null;
+        }
+        return new String(body, StandardCharsets.UTF_8).trim().toLowerCase();
+    }
+
+    /**
+     * Checks if a Content-Length header announces a body of at most MAX_WORD_BYTES.
+     *
+     * @param contentLength The value of the header.
+     * @return false if the announced body is longer, true otherwise, including values that are not numbers.
+     */
+    private static boolean isWithinWordLimit(String contentLength) {
+        try {
+            return Long.parseLong(contentLength.trim()) <= MAX_WORD_BYTES;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Describes the result of a word check as JSON.
+     *
+     * @param result The CheckResult of the word.
+     * @return A JSON object with the verdict, and the points if the word was accepted or the message if it was not.
+     */
+    private String resultOf(CheckResult result) {
+        StringBuilder json = new StringBuilder("{");
+        json.append("\"verdict\":").append(quote(result.getVerdict().name()));
+        if (result.isAccepted()) {
+            json.append(",\"word\":").append(quote(result.getWord()));
+            json.append(",\"point\":").append(result.getPoint());
+            json.append(",\"currentPoint\":").append(result.getCurrentPoint());
+        } else {
+            json.append(",\"message\":").append(quote(result.getMessage()));
+        }
+        return json.append('}').toString();
+    }
+
+    /**
+     * Describes the state of a session as JSON.
+     *
+     * @param session The session.
+     * @return A JSON object with the id, letters, center letter, points and found words of the session.
+     */
+    private String stateOf(GameSession session) {
+        GameData data = session.getData();
+        List<String> foundWords = session.getFoundWords();
+
+        StringBuilder json = new StringBuilder("{");
+        json.append("\"id\":").append(quote(session.getId()));
+        json.append(",\"letters\":").append(quote(data.getLetters()));
+        json.append(",\"centerLetter\":").append(quote(String.valueOf(data.getCenterLetter())));
+        json.append(",\"wordCount\":").append(data.getWordCount());
+        json.append(",\"currentPoint\":").append(session.getCurrentPoint());
+        json.append(",\"maximumPoint\":").append(session.getMaximumPoint());
+        json.append(",\"foundWords\":[");
+        for (int i = 0; i < foundWords.size(); i++) {
+            if (i > 0) json.append(',');
+            json.append(quote(foundWords.get(i)));
+        }
+        return json.append("]}").toString();
+    }
+
+    /**
+     * Describes the puzzle and leaderboard of a tournament as JSON.
+     *
+     * @param id The id of the tournament.
+     * @param tournament The tournament.
+     * @param limit The maximum number of players on the leaderboard.
+     * @return A JSON object with the id, letters, center letter, player count and leaderboard of the tournament.
+     */
+    private String leaderboardOf(String id, TournamentManager tournament, int limit) {
+        GameData data = tournament.getData();
+        List<Standing> standings = tournament.getLeaderboard(Math.max(limit, 0));
+
+        StringBuilder json = new StringBuilder("{");
+        json.append("\"id\":").append(quote(id));
+        json.append(",\"letters\":").append(quote(data.getLetters()));
+        json.append(",\"centerLetter\":").append(quote(String.valueOf(data.getCenterLetter())));
+        json.append(",\"wordCount\":").append(data.getWordCount());
+        json.append(",\"maximumPoint\":").append(tournament.getMaximumPoint());
+        json.append(",\"playerCount\":").append(tournament.getPlayerCount());
+        json.append(",\"leaderboard\":[");
+        for (int i = 0; i < standings.size(); i++) {
+            Standing standing = standings.get(i);
+            if (i > 0) json.append(',');
+            json.append("{\"rank\":").append(standing.getRank());
+            json.append(",\"name\":").append(quote(standing.getName()));
+            json.append(",\"score\":").append(standing.getScore());
+            json.append(",\"foundCount\":").append(standing.getFoundCount()).append('}');
+        }
+        return json.append("]}").toString();
+    }
+
+    /**
+     * Returns a parameter of the request's query string.
+     *
+     * @param exchange The HTTP exchange of the request.
+     * @param name The name of the parameter.
+     * @return The decoded value of the parameter, or null if the query has no such parameter.
+     */
+    private String queryParameter(HttpExchange exchange, String name) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) return null;
+        for (String parameter : query.split("&")) {
+            int separator = parameter.indexOf('=');
+            if (separator > 0 && parameter.substring(0, separator).equals(name)) {
+                return URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Quotes a string as a JSON string literal.
+     *
+     * @param value The string to quote.
+     * @return The quoted and escaped string.
+     */
+    private static String quote(String value) {
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch == '"' || ch == '\\') quoted.append('\\').append(ch);
+            else if (ch < 0x20) quoted.append(String.format("\\u%04x", (int) ch));
+            else quoted.append(ch);
+        }
+        return quoted.append('"').toString();
+    }
+
+    /**
+     * Refuses a request because a limit is reached, asking the client to retry after the next idle sweep.
+     *
+     * @param exchange The HTTP exchange of the request.
+     * @param message The message of the limit.
+     * @throws IOException If the response cannot be written.
+     */
+    private void sendUnavailable(HttpExchange exchange, String message) throws IOException {
+        exchange.getResponseHeaders().set("Retry-After", String.valueOf(Math.max(sweepIntervalMillis / 1000, 1)));
+        sendError(exchange, 503, message);
+    }
+
+    private void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        send(exchange, status, "{\"error\":" + quote(message) + "}");
+    }
+
+    private void send(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Stops accepting requests and ends all sessions and tournaments.
+     */
+    @Override
+    public void close() {
+        httpServer.stop(0);
+        sweeper.shutdownNow();
+        executor.shutdownNow();
+        sessions.clear();
+        tournaments.clear();
+        sessionSlots.set(0);
+        tournamentSlots.set(0);
+    }
+
+    /**
+     * Starts a server of the bundled dictionary.
+     *
+     * @param args Optional port to listen on, 8080 by default.
+     * @throws IOException If the port cannot be bound.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+
+        long start = System.nanoTime();
+        DataReader dataReader = bundledDataReader();
+        dataReader.readIndex().getPangramCatalog();
+        GameServer server = new GameServer(dataReader, port);
+        server.start();
+        System.out.printf("Game server listening on port %d, ready in %d ms%n", server.getPort(), (System.nanoTime() - start) / 1_000_000);
+
+        start = System.nanoTime();
+        try {
+            server.getDailyScheduler().precompute(LocalDate.now(), PRECOMPUTED_DAYS);
+            System.out.printf("Daily puzzles of %d days created in %d ms%n", PRECOMPUTED_DAYS, (System.nanoTime() - start) / 1_000_000);
+        } catch (PangramNotFoundException | IllegalWordCountException | IllegalPointRangeException e) {
+            System.out.println("Daily puzzles could not be created: " + e.getMessage());
+        }
+    }
+}
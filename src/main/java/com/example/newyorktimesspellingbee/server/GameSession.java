@@ -0,0 +1,81 @@
+package com.example.newyorktimesspellingbee.server;
+
+import com.example.newyorktimesspellingbee.core.data.GameData;
+import com.example.newyorktimesspellingbee.core.managers.GameManager;
+import com.example.newyorktimesspellingbee.core.results.CheckResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GameSession is a single player's game on the GameServer. The GameData is shared with every other session
+ * of the same puzzle and is never modified, only the found words and points belong to the session.
+ * Requests of one session may arrive on several threads at once, so its methods are synchronized.
+ */
+public class GameSession {
+    private final String id;
+    private final GameData data;
+    private final GameManager gameManager;
+    private final List<String> foundWords = new ArrayList<>(); // Accepted words, in the order they were found.
+    private volatile long lastAccessNanos = System.nanoTime(); // System.nanoTime() of the last request.
+
+    /**
+     * Constructs a GameSession for a game.
+     *
+     * @param id The id of the session.
+     * @param data The shared data of the game.
+     */
+    public GameSession(String id, GameData data) {
+        this.id = id;
+        this.data = data;
+        gameManager = new GameManager(data);
+    }
+
+    /**
+     * Checks a word against the game rules and adds its points if it is accepted.
+     *
+     * @param word The word submitted by the player.
+     * @return CheckResult with the verdict, and the points earned if the word is accepted.
+     */
+    public synchronized CheckResult submit(String word) {
+        CheckResult result = gameManager.validate(word);
+        if (result.isAccepted()) foundWords.add(result.getWord());
+        return result;
+    }
+
+    /**
+     * Records that the session was requested now, so it is not expired as idle.
+     */
+    public void touch() {
+        lastAccessNanos = System.nanoTime();
+    }
+
+    public long getLastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public GameData getData() {
+        return data;
+    }
+
+    public int getMaximumPoint() {
+        return gameManager.getMaximumPoint();
+    }
+
+    public synchronized int getCurrentPoint() {
+        return gameManager.getCurrentPoint();
+    }
+
+    /**
+     * Returns the words found so far.
+     *
+     * @return A copy of the found words, in the order they were found.
+     */
+    public synchronized List<String> getFoundWords() {
+        return new ArrayList<>(foundWords);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.newyorktimesspellingbee.views;
 
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
@@ -40,6 +41,7 @@ public class MenuView extends View{
     private final VBox titleBox;
     private final Button firstButton;
     private final Button secondButton;
+    private final Button resumeButton;
     private final Button exitButton;
     private final Image image;
     private final ImageView logoView;
@@ -64,6 +66,7 @@ public class MenuView extends View{
 
         firstButton = new Button();
         secondButton = new Button();
+        resumeButton = new Button();
         exitButton = new Button();
 
         init();
@@ -109,10 +112,18 @@ public class MenuView extends View{
 
         secondButton.setText(UINames.CREATE_BUTTON);
 
+        resumeButton.setText(UINames.RESUME_BUTTON);
+
         exitButton.setText(UINames.EXIT_BUTTON);
 
+        firstButton.disableProperty().bind(model.getReadyProperty().not());
+        resumeButton.disableProperty().bind(model.getReadyProperty().not());
+        resumeButton.visibleProperty().bind(model.getResumableProperty());
+        resumeButton.managedProperty().bind(model.getResumableProperty());
+
         firstButton.getStyleClass().addAll("btn", "btn-black");
         secondButton.getStyleClass().addAll("btn", "btn-black");
+        resumeButton.getStyleClass().addAll("btn", "btn-black");
         exitButton.getStyleClass().addAll("btn", "btn-yellow");
 
         firstButton.setOnMouseClicked(e -> {
@@ -139,7 +150,9 @@ public class MenuView extends View{
             }
         });
 
-        exitButton.setOnMouseClicked(e -> System.exit(0));
+        resumeButton.setOnMouseClicked(e -> controller.resume());
+
+        exitButton.setOnMouseClicked(e -> Platform.exit());
 
         titleBox.getChildren().addAll(
                 title,
@@ -147,6 +160,7 @@ public class MenuView extends View{
         );
 
         hBox.getChildren().addAll(
+                resumeButton,
                 firstButton,
                 secondButton,
                 exitButton
@@ -1,8 +1,11 @@
 module com.example.newyorktimesspellingbee {
     requires javafx.controls;
     requires javafx.fxml;
+    requires jdk.jfr;
+    requires jdk.httpserver;
 
 
     opens com.example.newyorktimesspellingbee to javafx.fxml;
     exports com.example.newyorktimesspellingbee;
+    exports com.example.newyorktimesspellingbee.core.events to jdk.jfr;
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.example.newyorktimesspellingbee.core.data;
+
+import com.example.newyorktimesspellingbee.core.results.LoadReport;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Checks that WatchingDataReader publishes the words of a changed file and keeps the current words
+ * when the file is emptied or removed, reporting why.
+ */
+class WatchingDataReaderTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void changedFileIsPublished() throws IOException {
+        Path file = Files.write(directory.resolve("words.txt"), List.of("bade", "Cage", "abc"));
+        try (WatchingDataReader reader = new WatchingDataReader(file)) {
+            assertEquals(List.of("bade", "cage"), reader.read());
+
+            Files.write(file, List.of("bade", "faced"));
+            reader.reload();
+            assertEquals(List.of("bade", "faced"), reader.read());
+            assertNull(reader.getLoadReport().getSources().get(0).getError());
+        }
+    }
+
+    @Test
+    void unreadableFileKeepsCurrentWords() throws IOException {
+        Path file = Files.write(directory.resolve("words.txt"), List.of("bade", "cage"));
+        try (WatchingDataReader reader = new WatchingDataReader(file)) {
+            reader.read();
+
+            Files.write(file, new byte[0]);
+            reader.reload();
+            assertEquals(List.of("bade", "cage"), reader.read());
+            assertNotNull(error(reader.getLoadReport()));
+
+            Files.delete(file);
+            reader.reload();
+            assertEquals(List.of("bade", "cage"), reader.read());
+            assertNotNull(error(reader.getLoadReport()));
+        }
+    }
+
+    private static String error(LoadReport report) {
+        return report.getSources().get(0).getError();
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.newyorktimesspellingbee.core.data;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that an index built with WordIndex.update() matches an index built from scratch for the same words,
+ * including the pangram catalog that update() recounts only for the changed letter sets.
+ */
+class WordIndexTest {
+    private static final String DICTIONARY = "com/example/newyorktimesspellingbee/data.txt";
+    private static List<String> words;
+
+    @BeforeAll
+    static void readDictionary() {
+        words = new MultiSourceReader(DictionarySource.resource(DICTIONARY)).read();
+        assertFalse(words.isEmpty(), "The bundled dictionary is empty");
+    }
+
+    @Test
+    void updateWithAddedAndRemovedWordsMatchesRebuild() {
+        List<String> changed = new ArrayList<>(words);
+        Random random = new Random(1);
+        for (int i = 0; i < 200; i++) changed.remove(random.nextInt(changed.size()));
+        changed.add("quizzical");
+        changed.add("zebrawood");
+        changed.add("jukeboxes");
+
+        assertEquivalent(WordIndex.of(changed), indexWithCatalog(words).update(changed));
+    }
+
+    @Test
+    void updateWithRevivedWordsMatchesRebuild() {
+        List<String> removed = new ArrayList<>(words.subList(100, words.size()));
+        WordIndex updated = indexWithCatalog(words).update(removed);
+        updated.getPangramCatalog();
+
+        assertEquivalent(WordIndex.of(words), updated.update(words));
+    }
+
+    @Test
+    void updateWithMostWordsRemovedMatchesRebuild() {
+        List<String> changed = new ArrayList<>(words.subList(0, words.size() / 4));
+
+        assertEquivalent(WordIndex.of(changed), indexWithCatalog(words).update(changed));
+    }
+
+    @Test
+    void updateWithoutChangesMatchesRebuild() {
+        assertEquivalent(WordIndex.of(words), indexWithCatalog(words).update(new ArrayList<>(words)));
+    }
+
+    /**
+     * Builds an index with its pangram catalog computed, so update() recounts the catalog instead of leaving it
+     * to be built on first use.
+     *
+     * @param words The words to index.
+     * @return A WordIndex with its PangramCatalog built.
+     */
+    private static WordIndex indexWithCatalog(List<String> words) {
+        WordIndex index = WordIndex.of(words);
+        index.getPangramCatalog();
+        return index;
+    }
+
+    /**
+     * Checks that two indexes hold the same words under the same letter masks and the same pangram catalog.
+     * Word ids differ between an updated and a rebuilt index, so words are compared by value.
+     *
+     * @param expected The index built from scratch.
+     * @param actual The updated index.
+     */
+    private static void assertEquivalent(WordIndex expected, WordIndex actual) {
+        assertArrayEquals(expected.getMasks(), actual.getMasks());
+        assertArrayEquals(expected.getPangramMasks(), actual.getPangramMasks());
+        for (int mask : expected.getMasks()) {
+            assertEquals(new HashSet<>(expected.getBucket(mask)), new HashSet<>(actual.getBucket(mask)));
+            assertEquals(expected.getBucket(mask).size(), actual.getBucket(mask).size());
+        }
+
+        PangramCatalog expectedCatalog = expected.getPangramCatalog();
+        PangramCatalog actualCatalog = actual.getPangramCatalog();
+        assertEquals(expectedCatalog.size(), actualCatalog.size());
+        for (int i = 0; i < expectedCatalog.size(); i++) {
+            int j = actualCatalog.indexOf(expectedCatalog.getMask(i));
+            assertTrue(j >= 0, "Missing letter set " + LetterMask.letters(expectedCatalog.getMask(i)));
+            assertEquals(expectedCatalog.getWordCount(i), actualCatalog.getWordCount(j));
+            assertEquals(expectedCatalog.getTotalPoint(i), actualCatalog.getTotalPoint(j));
+            assertEquals(new HashSet<>(expectedCatalog.getPangramWords(i)), new HashSet<>(actualCatalog.getPangramWords(j)));
+
+            int[] expectedCounts = new int[7], expectedPoints = new int[7], actualCounts = new int[7], actualPoints = new int[7];
+            expectedCatalog.countByCenter(i, expectedCounts, expectedPoints);
+            actualCatalog.countByCenter(j, actualCounts, actualPoints);
+            assertArrayEquals(expectedCounts, actualCounts);
+            assertArrayEquals(expectedPoints, actualPoints);
+        }
+    }
+}
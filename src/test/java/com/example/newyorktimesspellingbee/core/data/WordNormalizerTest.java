@@ -0,0 +1,47 @@
+package com.example.newyorktimesspellingbee.core.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that WordNormalizer's byte and String paths produce the same words, and that every reader of the bundled
+ * dictionary, including data.bin written by the compileDictionary task, reads the same words.
+ */
+class WordNormalizerTest {
+    private static final String DICTIONARY = "com/example/newyorktimesspellingbee/data.txt";
+    private static final List<String> LINES = List.of("Ángel", "CAÑÓN", "décor", "Zürich", "naïve", "Straße", "piñata",
+            "abc", "añu", "word", "PANGRAMS");
+
+    @Test
+    void accentsAndCaseAreNormalized() {
+        assertEquals("angel", WordNormalizer.toWord("Ángel"));
+        assertEquals("canon", WordNormalizer.toWord("CAÑÓN"));
+        assertEquals("zürich", WordNormalizer.toWord("Zürich"));
+        assertNull(WordNormalizer.toWord("abc"));
+    }
+
+    @Test
+    void bytePathMatchesStringPath() {
+        for (String line : LINES) {
+            byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+            assertEquals(WordNormalizer.toWord(line), WordNormalizer.toWord(bytes, bytes.length, new byte[bytes.length]), line);
+        }
+    }
+
+    @Test
+    void readersOfBundledDictionaryReadSameWords() {
+        List<String> words = new TxtReader().read();
+        assertTrue(words.size() > 0, "The bundled dictionary is empty");
+        assertEquals(words, new MappedTxtReader().read());
+        assertEquals(words.stream().distinct().collect(Collectors.toList()),
+                new MultiSourceReader(DictionarySource.resource(DICTIONARY)).read());
+        if (BinaryDictionaryReader.isAvailable()) assertEquals(words, new BinaryDictionaryReader().read());
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.newyorktimesspellingbee.core.managers;
+
+import com.example.newyorktimesspellingbee.core.data.GameData;
+import com.example.newyorktimesspellingbee.core.results.SavedSession;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that SessionStore recovers what was saved, ignores what it cannot trust in the journal,
+ * refuses damaged snapshots, keeps reporting failed writes and that a saved session is not resumed
+ * onto a different word list.
+ */
+class SessionStoreTest {
+    private static final List<String> WORDS = List.of("bade", "cage", "faced", "decaf", "badge", "fadged", "cabbed");
+    private static final String LETTERS = "abcdefg";
+    private static final int JOURNAL_MAGIC = 0x5342534A; // "SBSJ"
+    private static final int BITSET_LENGTH_OFFSET = 36;  // Position of the bitset length in the snapshot header.
+    private static final long WAIT_MILLIS = 5000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void closeCompactsJournalIntoSnapshot() throws IOException {
+        GameData data = game(WORDS);
+        try (SessionStore store = new SessionStore(directory)) {
+            SessionStore.Session session = store.start(data);
+            session.recordFound("cage", 1);
+            session.recordFound("decaf", 5);
+        }
+
+        assertEquals(16, Files.size(directory.resolve(SessionStore.JOURNAL_FILE)));
+        SavedSession recovered = recover();
+        assertEquals(6, recovered.getScore());
+        assertEquals(List.of("cage", "decaf"), recovered.getFoundWords(data));
+    }
+
+    @Test
+    void journalWithTornTailIsReplayed() throws IOException, InterruptedException {
+        GameData data = game(WORDS);
+        SessionStore store = new SessionStore(directory);
+        try {
+            SessionStore.Session session = store.start(data);
+            session.recordFound("faced", 5);
+            session.recordFound("badge", 5);
+            Path journal = directory.resolve(SessionStore.JOURNAL_FILE);
+            await(() -> size(journal) == 16 + 2 * 8);
+
+            Files.write(journal, new byte[]{0, 0, 0}, StandardOpenOption.APPEND);
+            SavedSession recovered = recover();
+            assertEquals(10, recovered.getScore());
+            assertEquals(List.of("faced", "badge"), recovered.getFoundWords(data));
+        } finally {
+            store.close();
+        }
+    }
+
+    @Test
+    void journalOfAnotherSnapshotIsIgnored() throws IOException {
+        GameData data = game(WORDS);
+        try (SessionStore store = new SessionStore(directory)) {
+            store.start(data).recordFound("cage", 1);
+        }
+
+        ByteBuffer snapshot = ByteBuffer.wrap(Files.readAllBytes(directory.resolve(SessionStore.SNAPSHOT_FILE)));
+        ByteBuffer journal = ByteBuffer.allocate(16 + 8);
+        journal.putInt(JOURNAL_MAGIC).putInt(snapshot.getInt(4)).putLong(snapshot.getLong(8) + 1);
+        journal.putInt(WORDS.indexOf("fadged")).putInt(6);
+        Files.write(directory.resolve(SessionStore.JOURNAL_FILE), journal.array());
+
+        SavedSession recovered = recover();
+        assertEquals(1, recovered.getScore());
+        assertEquals(List.of("cage"), recovered.getFoundWords(data));
+    }
+
+    @Test
+    void snapshotWithWrongBitsetLengthIsRefused() throws IOException {
+        try (SessionStore store = new SessionStore(directory)) {
+            store.start(game(WORDS)).recordFound("cage", 1);
+        }
+
+        Path snapshotFile = directory.resolve(SessionStore.SNAPSHOT_FILE);
+        byte[] snapshot = Files.readAllBytes(snapshotFile);
+        ByteBuffer.wrap(snapshot).putInt(BITSET_LENGTH_OFFSET, 1_000_000);
+        Files.write(snapshotFile, snapshot);
+
+        assertThrows(IOException.class, this::recover);
+    }
+
+    @Test
+    void sessionOfChangedWordListIsNotResumed() throws IOException {
+        try (SessionStore store = new SessionStore(directory)) {
+            store.start(game(WORDS)).recordFound("cage", 1);
+        }
+        SavedSession recovered = recover();
+
+        List<String> swapped = List.of("bade", "cage", "faced", "decaf", "badge", "fadged", "beaded");
+        List<String> shorter = WORDS.subList(0, WORDS.size() - 1);
+        assertNull(recovered.getFoundWords(game(swapped)));
+        assertNull(recovered.getFoundWords(game(shorter)));
+        assertNull(recovered.getFoundWords(new GameData(WORDS, List.of(), "abcgefd")));
+        assertEquals(List.of("cage"), recovered.getFoundWords(game(WORDS)));
+    }
+
+    @Test
+    void discardDeletesSavedSession() throws IOException {
+        try (SessionStore store = new SessionStore(directory)) {
+            store.start(game(WORDS)).recordFound("cage", 1);
+            store.discard();
+            assertNull(store.getSavedSession());
+        }
+
+        assertFalse(Files.exists(directory.resolve(SessionStore.SNAPSHOT_FILE)));
+        assertNull(recover());
+    }
+
+    @Test
+    void failedWriteIsReported() throws IOException, InterruptedException {
+        Path file = Files.createFile(directory.resolve("file"));
+        try (SessionStore store = new SessionStore(file)) {
+            SessionStore.Session session = store.start(game(WORDS));
+            await(session::isFailing);
+            assertNotNull(store.getFailure());
+        }
+    }
+
+    @Test
+    void wordsAfterFailedWriteAreSavedWithNewSnapshot() throws IOException, InterruptedException {
+        GameData data = game(WORDS);
+        Path blocked = Files.createFile(directory.resolve("blocked"));
+        try (SessionStore store = new SessionStore(blocked)) {
+            SessionStore.Session session = store.start(data);
+            session.recordFound("bade", 1);
+            await(session::isFailing);
+
+            Files.delete(blocked);
+            session.recordFound("cage", 1);
+            await(() -> !session.isFailing());
+            SavedSession recovered = recover(blocked);
+            assertEquals(2, recovered.getScore());
+            assertEquals(List.of("bade", "cage"), recovered.getFoundWords(data));
+        }
+    }
+
+    @Test
+    void failureIsReportedUntilSomethingIsWritten() throws IOException, InterruptedException {
+        Path blocked = Files.createFile(directory.resolve("blocked"));
+        try (SessionStore store = new SessionStore(blocked)) {
+            SessionStore.Session session = store.start(game(WORDS));
+            await(session::isFailing);
+
+            session.recordFound("cage", 1);
+            Thread.sleep(200);
+            assertTrue(session.isFailing());
+        }
+    }
+
+    private SavedSession recover() throws IOException {
+        return recover(directory);
+    }
+
+    private static SavedSession recover(Path directory) throws IOException {
+        try (SessionStore store = new SessionStore(directory)) {
+            return store.recover();
+        }
+    }
+
+    private static GameData game(List<String> words) {
+        return new GameData(words, List.of(), LETTERS);
+    }
+
+    private static long size(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Waits until the background writer reached the given state.
+     *
+     * @param condition The state to wait for.
+     */
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "The session writer did not finish in time");
+            Thread.sleep(10);
+        }
+    }
+}
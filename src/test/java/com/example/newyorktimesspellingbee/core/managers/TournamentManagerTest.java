@@ -0,0 +1,166 @@
+package com.example.newyorktimesspellingbee.core.managers;
+
+import com.example.newyorktimesspellingbee.core.data.GameData;
+import com.example.newyorktimesspellingbee.core.data.LetterMask;
+import com.example.newyorktimesspellingbee.core.results.CheckResult;
+import com.example.newyorktimesspellingbee.core.results.Standing;
+import com.example.newyorktimesspellingbee.core.results.Verdict;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the lock-free progress of tournament players under concurrent submits: a word submitted by many threads
+ * at once is accepted only once, every score is the sum of the points of the player's found words,
+ * and the leaderboard read while words are submitted ends up with every player's final score.
+ */
+class TournamentManagerTest {
+    private static final String LETTERS = "abcdefg"; // Center letter d.
+    private static final List<String> PANGRAMS = List.of("fadgecab", "bagfaced");
+    private static final List<String> WORDS = List.of("bade", "dace", "faced", "decaf", "badge", "cadged", "fadged",
+            "added", "deaf", "egad", "aged", "cede", "feed", "deed", "bead", "fade", "fadgecab", "bagfaced");
+    private static final int THREADS = 8;
+
+    @Test
+    void wordSubmittedConcurrentlyIsAcceptedOnce() throws Exception {
+        TournamentManager tournament = new TournamentManager(game());
+        TournamentPlayer player = tournament.join("alice");
+
+        for (String word : WORDS) {
+            List<CheckResult> results = submitConcurrently(() -> player.submit(word));
+            long accepted = results.stream().filter(CheckResult::isAccepted).count();
+            assertEquals(1, accepted, word);
+            for (CheckResult result : results) {
+                if (!result.isAccepted()) assertEquals(Verdict.WORD_ALREADY_FOUND, result.getVerdict(), word);
+            }
+        }
+        assertEquals(tournament.getMaximumPoint(), player.getScore());
+        assertEquals(WORDS.size(), player.getFoundCount());
+    }
+
+    @Test
+    void rejectedWordsGetTheirVerdict() {
+        TournamentPlayer player = new TournamentManager(game()).join("bob");
+
+        assertEquals(Verdict.ILLEGAL_WORD_LENGTH, player.submit("bad").getVerdict());
+        assertEquals(Verdict.WORD_DOES_NOT_CONTAIN_CENTER_LETTER, player.submit("cafe").getVerdict());
+        assertEquals(Verdict.WORD_CONTAINS_ILLEGAL_LETTER, player.submit("dazed").getVerdict());
+        assertEquals(Verdict.DICTIONARY_DOES_NOT_CONTAIN_WORD, player.submit("dddd").getVerdict());
+        assertEquals(Verdict.ACCEPTED, player.submit("bade").getVerdict());
+        assertEquals(Verdict.WORD_ALREADY_FOUND, player.submit("bade").getVerdict());
+        assertEquals(LetterMask.pointOf(4, false), player.getScore());
+    }
+
+    @Test
+    void scoresAreSumsOfFoundWordsAndLeaderboardCatchesUp() throws Exception {
+        TournamentManager tournament = new TournamentManager(game());
+        int playerCount = 200;
+        AtomicBoolean submitting = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        try {
+            Future<?> reader = executor.submit(() -> {
+                while (submitting.get()) assertSorted(tournament.getLeaderboard(playerCount));
+            });
+
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> submitters = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                Random random = new Random(t);
+                submitters.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < playerCount * 10; i++) {
+                        String name = "player-" + random.nextInt(playerCount);
+                        tournament.join(name).submit(WORDS.get(random.nextInt(WORDS.size())));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> submitter : submitters) submitter.get(30, TimeUnit.SECONDS);
+            submitting.set(false);
+            reader.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int scoreSum = 0;
+        for (int i = 0; i < playerCount; i++) {
+            TournamentPlayer player = tournament.getPlayer("player-" + i);
+            if (player == null) continue;
+            List<String> foundWords = player.getFoundWords();
+            int expected = 0;
+            for (String word : foundWords) expected += LetterMask.pointOf(word.length(), PANGRAMS.contains(word));
+            assertEquals(expected, player.getScore(), player.getName());
+            assertEquals(foundWords.size(), player.getFoundCount(), player.getName());
+            scoreSum += player.getScore();
+        }
+
+        List<Standing> leaderboard = tournament.getLeaderboard(playerCount);
+        assertEquals(tournament.getPlayerCount(), leaderboard.size());
+        assertSorted(leaderboard);
+        int leaderboardSum = 0;
+        for (Standing standing : leaderboard) {
+            assertEquals(tournament.getPlayer(standing.getName()).getScore(), standing.getScore(), standing.getName());
+            leaderboardSum += standing.getScore();
+        }
+        assertEquals(scoreSum, leaderboardSum);
+    }
+
+    /**
+     * Submits from THREADS threads released at the same time.
+     *
+     * @param submit The submit of every thread.
+     * @return The results of all threads.
+     */
+    private static List<CheckResult> submitConcurrently(Callable<CheckResult> submit) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<CheckResult>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return submit.call();
+                }));
+            }
+            start.countDown();
+            List<CheckResult> results = new ArrayList<>();
+            for (Future<CheckResult> future : futures) results.add(future.get(10, TimeUnit.SECONDS));
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Checks that standings are ordered by score, then found word count and then name, with shared ranks on equal scores.
+     *
+     * @param standings The leaderboard.
+     */
+    private static void assertSorted(List<Standing> standings) {
+        for (int i = 1; i < standings.size(); i++) {
+            Standing before = standings.get(i - 1);
+            Standing after = standings.get(i);
+            assertTrue(before.getScore() > after.getScore() || before.getScore() == after.getScore()
+                    && (before.getFoundCount() > after.getFoundCount() || before.getFoundCount() == after.getFoundCount()
+                    && before.getName().compareTo(after.getName()) < 0), "Leaderboard out of order at " + i);
+            assertEquals(before.getScore() == after.getScore() ? before.getRank() : i + 1, after.getRank());
+        }
+    }
+
+    private static GameData game() {
+        return new GameData(WORDS, PANGRAMS, LETTERS);
+    }
+}